@@ -0,0 +1,52 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.io.File;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks matching the given regular expression with the {@link GCProfiler} enabled to report allocation
+ * rates alongside the timings. Results are written as JSON to the given file to be compared between commits.
+ * 
+ * @author agent
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws Exception {
+
+		String include = args.length > 0 ? args[0] : ".*Benchmarks.*";
+		File result = new File(args.length > 1 ? args[1] : "build/reports/jmh/results.json");
+		result.getParentFile().mkdirs();
+
+		Options options = new OptionsBuilder().//
+				include(include).//
+				addProfiler(GCProfiler.class).//
+				warmupIterations(5).//
+				measurementIterations(5).//
+				forks(1).//
+				resultFormat(ResultFormatType.JSON).//
+				result(result.getAbsolutePath()).//
+				build();
+
+		new Runner(options).run();
+	}
+}
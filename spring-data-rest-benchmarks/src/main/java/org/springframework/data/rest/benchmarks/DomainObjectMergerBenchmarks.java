@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.rest.core.support.DomainObjectMerger;
+import org.springframework.data.rest.webmvc.jpa.Person;
+
+/**
+ * Benchmarks for {@link DomainObjectMerger}.
+ * 
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DomainObjectMergerBenchmarks {
+
+	DomainObjectMerger merger;
+	Person incoming, target, unchanged;
+
+	@Setup
+	public void setUp(ExporterState state) {
+
+		merger = state.getBean(DomainObjectMerger.class);
+
+		Person father = new Person("Billy Bob", "Thornton");
+
+		incoming = new Person("John", "Doe");
+		incoming.setFather(father);
+
+		target = new Person("Jane", "Doe");
+		unchanged = new Person("John", "Doe");
+		unchanged.setFather(father);
+	}
+
+	@Benchmark
+	public Person mergeChangedProperties() {
+
+		target.setFirstName("Jane");
+		merger.merge(incoming, target);
+
+		return target;
+	}
+
+	@Benchmark
+	public Person mergeUnchangedProperties() {
+
+		merger.merge(incoming, unchanged);
+		return unchanged;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+
+/**
+ * Shared JMH state bootstrapping the REST exporter on top of the JPA domain of the web tests backed by an in-memory
+ * HSQLDB populated by the {@link TestDataPopulator}.
+ * 
+ * @author agent
+ */
+@State(Scope.Benchmark)
+public class ExporterState {
+
+	private AnnotationConfigWebApplicationContext context;
+
+	@Setup
+	public void setUp() {
+
+		context = new AnnotationConfigWebApplicationContext();
+		context.setServletContext(new MockServletContext());
+		context.register(JpaRepositoryConfig.class, RepositoryRestMvcConfiguration.class);
+		context.refresh();
+
+		context.getBean(TestDataPopulator.class).populateRepositories();
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Returns the bean of the given type from the exporter's context.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	/**
+	 * Returns the bean with the given name and type from the exporter's context.
+	 * 
+	 * @param name must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public <T> T getBean(String name, Class<T> type) {
+		return context.getBean(name, type);
+	}
+
+	/**
+	 * Binds a {@link MockHttpServletRequest} for the given URI to the current thread, as link building requires a
+	 * current request. Has to be called by the benchmark thread, i.e. from a {@link Scope#Thread} state.
+	 * 
+	 * @param method the HTTP method.
+	 * @param uri the request URI.
+	 * @return the request bound.
+	 */
+	public static MockHttpServletRequest bindRequest(String method, String uri) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+		request.addHeader("Accept", "application/json");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		return request;
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Benchmarks for {@link org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping#lookupHandlerMethod}, driven
+ * through {@link HandlerMapping#getHandler(javax.servlet.http.HttpServletRequest)}.
+ * 
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerMappingBenchmarks {
+
+	HandlerMapping mapping;
+	MockHttpServletRequest collectionRequest, itemRequest, searchRequest, unmappedRequest;
+
+	@Setup
+	public void setUp(ExporterState state) {
+
+		mapping = state.getBean("repositoryExporterHandlerMapping", HandlerMapping.class);
+
+		collectionRequest = ExporterState.bindRequest("GET", "/people");
+		itemRequest = ExporterState.bindRequest("GET", "/people/1");
+		searchRequest = ExporterState.bindRequest("GET", "/people/search/findByFirstName");
+		unmappedRequest = ExporterState.bindRequest("GET", "/unknown/1");
+	}
+
+	@Benchmark
+	public HandlerExecutionChain lookupCollectionResource() throws Exception {
+		return mapping.getHandler(collectionRequest);
+	}
+
+	@Benchmark
+	public HandlerExecutionChain lookupItemResource() throws Exception {
+		return mapping.getHandler(itemRequest);
+	}
+
+	@Benchmark
+	public HandlerExecutionChain lookupSearchResource() throws Exception {
+		return mapping.getHandler(searchRequest);
+	}
+
+	@Benchmark
+	public HandlerExecutionChain lookupUnmappedPath() throws Exception {
+		return mapping.getHandler(unmappedRequest);
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Benchmarks for the {@code ResourceSerializer} and {@code ResourceDeserializer} registered by
+ * {@link org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module}.
+ * 
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonBenchmarks {
+
+	ObjectMapper mapper;
+	PersistentEntityResource<Object> resource;
+	byte[] json;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp(ExporterState state) throws Exception {
+
+		ExporterState.bindRequest("GET", "/people");
+
+		mapper = state.getBean(ObjectMapper.class);
+
+		Person person = state.getBean(PersonRepository.class).findFirstPersonByFirstName("John");
+		resource = state.getBean(PersistentEntityResourceAssembler.class).toResource(person);
+		json = mapper.writeValueAsBytes(resource);
+	}
+
+	@Benchmark
+	public byte[] serializePersonResource() throws Exception {
+		return mapper.writeValueAsBytes(resource);
+	}
+
+	@Benchmark
+	public Person deserializePerson() throws Exception {
+		return mapper.readValue(json, Person.class);
+	}
+}
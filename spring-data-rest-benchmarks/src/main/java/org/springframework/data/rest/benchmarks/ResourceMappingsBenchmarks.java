@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.jpa.Person;
+
+/**
+ * Benchmarks for {@link ResourceMappings} lookups and {@link Path#matches(String)}.
+ * 
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResourceMappingsBenchmarks {
+
+	ResourceMappings mappings;
+	Path path = new Path("/people");
+
+	@Setup
+	public void setUp(ExporterState state) {
+		mappings = state.getBean(ResourceMappings.class);
+	}
+
+	@Benchmark
+	public ResourceMetadata getMappingForDomainType() {
+		return mappings.getMappingFor(Person.class);
+	}
+
+	@Benchmark
+	public boolean exportsTopLevelResourceForExportedPath() {
+		return mappings.exportsTopLevelResourceFor("people");
+	}
+
+	@Benchmark
+	public boolean exportsTopLevelResourceForUnknownPath() {
+		return mappings.exportsTopLevelResourceFor("unknown");
+	}
+
+	@Benchmark
+	public boolean pathMatches() {
+		return path.matches("people");
+	}
+
+	@Benchmark
+	public boolean pathMatchesWithSlashes() {
+		return path.matches("/people/");
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler;
+import org.springframework.data.rest.webmvc.jpa.Order;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Benchmarks for {@link ResourceProcessorHandlerMethodReturnValueHandler} post-processing a collection resource with a
+ * matching and a non-matching {@link ResourceProcessor} registered.
+ * 
+ * @author agent
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResourceProcessorBenchmarks {
+
+	@Param({ "1", "20", "100" }) int size;
+
+	ResourceProcessorHandlerMethodReturnValueHandler handler;
+	MethodParameter returnType;
+	Resources<Resource<Person>> resources;
+
+	@Setup
+	public void setUp() {
+
+		List<ResourceProcessor<?>> processors = new ArrayList<ResourceProcessor<?>>();
+		processors.add(new PersonProcessor());
+		processors.add(new OrderProcessor());
+
+		handler = new ResourceProcessorHandlerMethodReturnValueHandler(new NoOpReturnValueHandler(), processors);
+		returnType = new MethodParameter(ReflectionUtils.findMethod(Controller.class, "people"), -1);
+
+		List<Resource<Person>> content = new ArrayList<Resource<Person>>(size);
+
+		for (int i = 0; i < size; i++) {
+			content.add(new Resource<Person>(new Person("John", "Doe " + i)));
+		}
+
+		resources = new Resources<Resource<Person>>(content);
+	}
+
+	@Benchmark
+	public Resources<Resource<Person>> processResources() throws Exception {
+
+		handler.handleReturnValue(resources, returnType, null, null);
+		return resources;
+	}
+
+	interface Controller {
+
+		Resources<Resource<Person>> people();
+	}
+
+	static class PersonProcessor implements ResourceProcessor<Resource<Person>> {
+
+		@Override
+		public Resource<Person> process(Resource<Person> resource) {
+			return resource;
+		}
+	}
+
+	static class OrderProcessor implements ResourceProcessor<Resource<Order>> {
+
+		@Override
+		public Resource<Order> process(Resource<Order> resource) {
+			return resource;
+		}
+	}
+
+	static class NoOpReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+		@Override
+		public boolean supportsReturnType(MethodParameter returnType) {
+			return true;
+		}
+
+		@Override
+		public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
+				NativeWebRequest webRequest) {}
+	}
+}
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.core.config;
 
+import java.io.File;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -39,7 +40,17 @@ public class RepositoryRestConfiguration {
 	private MediaType defaultMediaType = MediaType.APPLICATION_JSON;
 	private boolean returnBodyOnCreate = false;
 	private boolean returnBodyOnUpdate = false;
+	private boolean relativeLinks = false;
+	private boolean exposeNonExportedAssociationIds = false;
+	private boolean closeEntityManagerAfterSerialization = false;
+	private boolean metricsEnabled = false;
+	private double serverTimingSampleRate = 0.0;
+	private File metadataSnapshotLocation = null;
+	private boolean eagerMetadataInitialization = false;
+	private int parallelAssemblyThreshold = 0;
+	private int parallelAssemblyThreads = Runtime.getRuntime().availableProcessors();
 	private List<Class<?>> exposeIdsFor = new ArrayList<Class<?>>();
+	private List<Class<?>> replaceOnUpdateFor = new ArrayList<Class<?>>();
 	private ResourceMappingConfiguration domainMappings = new ResourceMappingConfiguration();
 	private ResourceMappingConfiguration repoMappings = new ResourceMappingConfiguration();
 
@@ -230,6 +241,213 @@ public class RepositoryRestConfiguration {
 		return this;
 	}
 
+	/**
+	 * Whether to render links to repository resources as root-relative hrefs.
+	 * 
+	 * @return
+	 */
+	public boolean isRelativeLinks() {
+		return relativeLinks;
+	}
+
+	/**
+	 * Set whether to render the links to repository resources as root-relative hrefs (e.g. {@code /people/1}) instead of
+	 * absolute URIs. Responses then declare the scheme, host and port to resolve them against once, as a link with the
+	 * rel {@code base}. Defaults to {@literal false}.
+	 * 
+	 * @param relativeLinks
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setRelativeLinks(boolean relativeLinks) {
+		this.relativeLinks = relativeLinks;
+		return this;
+	}
+
+	/**
+	 * Whether to render to-one associations to domain types that are not exported by the identifier of the associated
+	 * entity.
+	 * 
+	 * @return
+	 */
+	public boolean isExposeNonExportedAssociationIds() {
+		return exposeNonExportedAssociationIds;
+	}
+
+	/**
+	 * Set whether to render to-one associations to domain types that are not exported by the identifier of the
+	 * associated entity instead of leaving them out of the representation. Lazily loaded associations are not
+	 * initialized for that. Defaults to {@literal false}.
+	 * 
+	 * @param exposeNonExportedAssociationIds
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setExposeNonExportedAssociationIds(boolean exposeNonExportedAssociationIds) {
+		this.exposeNonExportedAssociationIds = exposeNonExportedAssociationIds;
+		return this;
+	}
+
+	/**
+	 * Whether to close the JPA {@link javax.persistence.EntityManager} opened for a request right after the response has
+	 * been written.
+	 * 
+	 * @return
+	 */
+	public boolean isCloseEntityManagerAfterSerialization() {
+		return closeEntityManagerAfterSerialization;
+	}
+
+	/**
+	 * Set whether to close the JPA {@link javax.persistence.EntityManager} opened for a request to a JPA backed repository
+	 * right after the response has been written instead of once the request has been completed. Exception handling then
+	 * can't rely on lazy loading anymore. Defaults to {@literal false}.
+	 * 
+	 * @param closeEntityManagerAfterSerialization
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setCloseEntityManagerAfterSerialization(
+			boolean closeEntityManagerAfterSerialization) {
+		this.closeEntityManagerAfterSerialization = closeEntityManagerAfterSerialization;
+		return this;
+	}
+
+	/**
+	 * Whether to record latency and throughput metrics for repository invocations and exported controller methods.
+	 * 
+	 * @return {@literal true} if metrics are recorded, {@literal false} otherwise.
+	 */
+	public boolean isMetricsEnabled() {
+		return metricsEnabled;
+	}
+
+	/**
+	 * Set whether to record latency and throughput metrics for repository invocations and exported controller methods.
+	 * If enabled, the metrics are exposed via JMX and as JSON under {@literal /metrics}, which takes precedence over a
+	 * repository exported under that path. Defaults to {@literal false}.
+	 * 
+	 * @param metricsEnabled
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setMetricsEnabled(boolean metricsEnabled) {
+		this.metricsEnabled = metricsEnabled;
+		return this;
+	}
+
+	/**
+	 * Get the share of requests to report per-phase processing times for in a {@literal Server-Timing} response header.
+	 * 
+	 * @return a value between {@literal 0} (never) and {@literal 1} (always).
+	 */
+	public double getServerTimingSampleRate() {
+		return serverTimingSampleRate;
+	}
+
+	/**
+	 * Set the share of requests to report per-phase processing times for in a {@literal Server-Timing} response header.
+	 * Defaults to {@literal 0}, i.e. no timings are recorded at all.
+	 * 
+	 * @param serverTimingSampleRate a value between {@literal 0} (never) and {@literal 1} (always).
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setServerTimingSampleRate(double serverTimingSampleRate) {
+		Assert.isTrue(serverTimingSampleRate >= 0 && serverTimingSampleRate <= 1,
+				"Server timing sample rate must be between 0 and 1.");
+		this.serverTimingSampleRate = serverTimingSampleRate;
+		return this;
+	}
+
+	/**
+	 * Get the directory to store the metadata snapshot in.
+	 * 
+	 * @return the directory or {@literal null} if no snapshot is kept.
+	 */
+	public File getMetadataSnapshotLocation() {
+		return metadataSnapshotLocation;
+	}
+
+	/**
+	 * Set the directory to store a snapshot of metadata that would otherwise have to be obtained by scanning classes on
+	 * every startup. The snapshot is keyed by a hash of the names, sizes and modification dates of the jars and class
+	 * directories on the classpath, so it is discarded as soon as one of them changes. Changes to class files within a
+	 * directory are not detected. Defaults to {@literal null}, i.e. no snapshot is kept.
+	 * 
+	 * @param metadataSnapshotLocation a writable directory, can be {@literal null}.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setMetadataSnapshotLocation(File metadataSnapshotLocation) {
+		this.metadataSnapshotLocation = metadataSnapshotLocation;
+		return this;
+	}
+
+	/**
+	 * Whether to compute the metadata of all exported resources on startup rather than on first access.
+	 * 
+	 * @return {@literal true} if the metadata is computed on startup, {@literal false} otherwise.
+	 */
+	public boolean isEagerMetadataInitialization() {
+		return eagerMetadataInitialization;
+	}
+
+	/**
+	 * Set whether to compute the search resource and property mappings of all exported resources on startup, using all
+	 * available processors, rather than on first access. Defaults to {@literal false}.
+	 * 
+	 * @param eagerMetadataInitialization
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setEagerMetadataInitialization(boolean eagerMetadataInitialization) {
+		this.eagerMetadataInitialization = eagerMetadataInitialization;
+		return this;
+	}
+
+	/**
+	 * The minimum number of elements of a collection resource to assemble and process in parallel.
+	 * 
+	 * @return
+	 */
+	public int getParallelAssemblyThreshold() {
+		return parallelAssemblyThreshold;
+	}
+
+	/**
+	 * Set the minimum number of elements a collection resource must have to turn them into resources and run the
+	 * {@link org.springframework.hateoas.ResourceProcessor}s on them in parallel. Processors are only run in parallel if
+	 * all of them are declared thread-safe. Defaults to {@literal 0}, which disables parallel assembly.
+	 * 
+	 * @param parallelAssemblyThreshold must not be negative.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setParallelAssemblyThreshold(int parallelAssemblyThreshold) {
+
+		Assert.isTrue(parallelAssemblyThreshold >= 0, "Parallel assembly threshold must not be negative!");
+
+		this.parallelAssemblyThreshold = parallelAssemblyThreshold;
+		return this;
+	}
+
+	/**
+	 * The maximum number of threads to use for parallel assembly.
+	 * 
+	 * @return
+	 */
+	public int getParallelAssemblyThreads() {
+		return parallelAssemblyThreads;
+	}
+
+	/**
+	 * Set the maximum number of threads shared by all requests for parallel assembly. Defaults to the number of
+	 * available processors.
+	 * 
+	 * @param parallelAssemblyThreads must be greater than 0.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration setParallelAssemblyThreads(int parallelAssemblyThreads) {
+
+		Assert.isTrue(parallelAssemblyThreads > 0, "Number of parallel assembly threads must be greater than 0!");
+
+		this.parallelAssemblyThreads = parallelAssemblyThreads;
+		return this;
+	}
+
 	/**
 	 * Start configuration a {@link ResourceMapping} for a specific domain type.
 	 * 
@@ -327,4 +545,29 @@ public class RepositoryRestConfiguration {
 		Collections.addAll(exposeIdsFor, domainTypes);
 		return this;
 	}
+
+	/**
+	 * Whether a {@code PUT} for the given domain type replaces the stored entity without reading it first.
+	 * 
+	 * @param domainType The domain type to check.
+	 * @return {@literal true} if updates replace the entity, {@literal false} otherwise.
+	 */
+	public boolean isReplaceOnUpdateFor(Class<?> domainType) {
+		return replaceOnUpdateFor.contains(domainType);
+	}
+
+	/**
+	 * Set the list of domain types for which a {@code PUT} replaces the entity by handing the incoming representation
+	 * straight to the repository's {@code save(...)} method, skipping the lookup of the current state and the merge. Only
+	 * use this for stores whose {@code save(...)} is an upsert (e.g. MongoDB, GemFire). Properties not contained in the
+	 * request are reset and the response can't tell creations from updates. Requests carrying an {@code If-Match} header
+	 * still read the entity to verify its version.
+	 * 
+	 * @param domainTypes Array of types to replace on update.
+	 * @return {@literal this}
+	 */
+	public RepositoryRestConfiguration replaceOnUpdateFor(Class<?>... domainTypes) {
+		Collections.addAll(replaceOnUpdateFor, domainTypes);
+		return this;
+	}
 }
@@ -5,7 +5,6 @@ import static org.springframework.core.GenericTypeResolver.*;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
-import org.springframework.context.ApplicationListener;
 
 /**
  * Abstract class that listens for generic {@link RepositoryEvent}s and dispatches them to a specific method based on
@@ -13,7 +12,7 @@ import org.springframework.context.ApplicationListener;
  * 
  * @author Jon Brisbin
  */
-public abstract class AbstractRepositoryEventListener<T> implements ApplicationListener<RepositoryEvent>,
+public abstract class AbstractRepositoryEventListener<T> implements SmartRepositoryEventListener,
 		ApplicationContextAware {
 
 	private final Class<?> INTERESTED_TYPE = resolveTypeArgument(getClass(), AbstractRepositoryEventListener.class);
@@ -24,6 +23,15 @@ public abstract class AbstractRepositoryEventListener<T> implements ApplicationL
 		this.applicationContext = applicationContext;
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.SmartRepositoryEventListener#supportsEvent(java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	public boolean supportsEvent(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+		return null == INTERESTED_TYPE || INTERESTED_TYPE.isAssignableFrom(domainType);
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	@Override
 	public final void onApplicationEvent(RepositoryEvent event) {
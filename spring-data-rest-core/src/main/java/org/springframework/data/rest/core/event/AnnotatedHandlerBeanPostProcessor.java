@@ -10,7 +10,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
-import org.springframework.context.ApplicationListener;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.rest.core.annotation.HandleAfterCreate;
 import org.springframework.data.rest.core.annotation.HandleAfterDelete;
@@ -23,18 +22,58 @@ import org.springframework.data.rest.core.annotation.HandleBeforeLinkDelete;
 import org.springframework.data.rest.core.annotation.HandleBeforeLinkSave;
 import org.springframework.data.rest.core.annotation.HandleBeforeSave;
 import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
+import org.springframework.data.rest.core.support.MetadataSnapshot;
+import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Jon Brisbin
  */
-public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<RepositoryEvent>, BeanPostProcessor {
+public class AnnotatedHandlerBeanPostProcessor implements DynamicRepositoryEventListener, BeanPostProcessor {
 
 	private static final Logger LOG = LoggerFactory.getLogger(AnnotatedHandlerBeanPostProcessor.class);
+	private static final String SNAPSHOT_KEY_PREFIX = "event-handlers.";
+
 	private final MultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends RepositoryEvent>, AnnotatedHandlerBeanPostProcessor.EventHandlerMethod>();
+	private MetadataSnapshot snapshot = MetadataSnapshot.disabled();
+
+	/**
+	 * Configures the {@link MetadataSnapshot} to record the handler methods found per bean type in, so that bean types
+	 * don't have to be scanned again on the next startup.
+	 * 
+	 * @param snapshot must not be {@literal null}.
+	 */
+	public void setMetadataSnapshot(MetadataSnapshot snapshot) {
+
+		Assert.notNull(snapshot, "MetadataSnapshot must not be null!");
+		this.snapshot = snapshot;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.SmartRepositoryEventListener#supportsEvent(java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	public boolean supportsEvent(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		List<EventHandlerMethod> methods = handlerMethods.get(eventType);
+
+		if (methods == null) {
+			return false;
+		}
+
+		for (EventHandlerMethod handlerMethod : methods) {
+			if (ClassUtils.isAssignable(handlerMethod.targetType, domainType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
 
 	@Override
 	public void onApplicationEvent(RepositoryEvent event) {
@@ -79,11 +118,24 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 	public Object postProcessAfterInitialization(final Object bean, String beanName) throws BeansException {
 		final Class<?> beanType = bean.getClass();
 
+		// CGLIB generated class names differ between startups
+		String snapshotKey = beanType.getName().contains(ClassUtils.CGLIB_CLASS_SEPARATOR) ? null : SNAPSHOT_KEY_PREFIX
+				+ beanType.getName();
+
+		if (snapshotKey != null && registerFromSnapshot(bean, snapshot.get(snapshotKey))) {
+			return bean;
+		}
+
 		RepositoryEventHandler typeAnno = AnnotationUtils.findAnnotation(beanType, RepositoryEventHandler.class);
 		if (null == typeAnno) {
+			if (snapshotKey != null) {
+				snapshot.put(snapshotKey, "");
+			}
 			return bean;
 		}
 
+		final List<EventHandlerMethod> found = new ArrayList<EventHandlerMethod>();
+
 		Class<?>[] targetTypes = typeAnno.value();
 		if (targetTypes.length == 0) {
 			targetTypes = new Class<?>[] { null };
@@ -93,16 +145,16 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 			ReflectionUtils.doWithMethods(beanType, new ReflectionUtils.MethodCallback() {
 				@Override
 				public void doWith(Method method) throws IllegalArgumentException, IllegalAccessException {
-					inspect(targetType, bean, method, HandleBeforeCreate.class, BeforeCreateEvent.class);
-					inspect(targetType, bean, method, HandleAfterCreate.class, AfterCreateEvent.class);
-					inspect(targetType, bean, method, HandleBeforeSave.class, BeforeSaveEvent.class);
-					inspect(targetType, bean, method, HandleAfterSave.class, AfterSaveEvent.class);
-					inspect(targetType, bean, method, HandleBeforeLinkSave.class, BeforeLinkSaveEvent.class);
-					inspect(targetType, bean, method, HandleAfterLinkSave.class, AfterLinkSaveEvent.class);
-					inspect(targetType, bean, method, HandleBeforeDelete.class, BeforeDeleteEvent.class);
-					inspect(targetType, bean, method, HandleAfterDelete.class, AfterDeleteEvent.class);
-					inspect(targetType, bean, method, HandleBeforeLinkDelete.class, BeforeLinkDeleteEvent.class);
-					inspect(targetType, bean, method, HandleAfterLinkDelete.class, AfterLinkDeleteEvent.class);
+					inspect(targetType, bean, method, HandleBeforeCreate.class, BeforeCreateEvent.class, found);
+					inspect(targetType, bean, method, HandleAfterCreate.class, AfterCreateEvent.class, found);
+					inspect(targetType, bean, method, HandleBeforeSave.class, BeforeSaveEvent.class, found);
+					inspect(targetType, bean, method, HandleAfterSave.class, AfterSaveEvent.class, found);
+					inspect(targetType, bean, method, HandleBeforeLinkSave.class, BeforeLinkSaveEvent.class, found);
+					inspect(targetType, bean, method, HandleAfterLinkSave.class, AfterLinkSaveEvent.class, found);
+					inspect(targetType, bean, method, HandleBeforeDelete.class, BeforeDeleteEvent.class, found);
+					inspect(targetType, bean, method, HandleAfterDelete.class, AfterDeleteEvent.class, found);
+					inspect(targetType, bean, method, HandleBeforeLinkDelete.class, BeforeLinkDeleteEvent.class, found);
+					inspect(targetType, bean, method, HandleAfterLinkDelete.class, AfterLinkDeleteEvent.class, found);
 				}
 			}, new ReflectionUtils.MethodFilter() {
 				@Override
@@ -113,11 +165,79 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 			});
 		}
 
+		List<String> descriptors = new ArrayList<String>(found.size());
+
+		for (EventHandlerMethod handlerMethod : found) {
+			handlerMethods.add(handlerMethod.eventType, handlerMethod);
+			descriptors.add(handlerMethod.toDescriptor());
+		}
+
+		if (snapshotKey != null) {
+			snapshot.put(snapshotKey, StringUtils.collectionToDelimitedString(descriptors, ";"));
+		}
+
 		return bean;
 	}
 
+	/**
+	 * Registers the handler methods of the given bean as recorded in the given snapshot entry.
+	 * 
+	 * @param handler must not be {@literal null}.
+	 * @param entry can be {@literal null}.
+	 * @return whether the entry could be applied, {@literal false} if the bean needs to be scanned.
+	 */
+	@SuppressWarnings("unchecked")
+	private boolean registerFromSnapshot(Object handler, String entry) {
+
+		if (entry == null) {
+			return false;
+		}
+
+		ClassLoader classLoader = handler.getClass().getClassLoader();
+		List<EventHandlerMethod> methods = new ArrayList<EventHandlerMethod>();
+
+		try {
+
+			for (String descriptor : StringUtils.tokenizeToStringArray(entry, ";")) {
+
+				String[] parts = StringUtils.delimitedListToStringArray(descriptor, "|");
+
+				if (parts.length != 5) {
+					return false;
+				}
+
+				String[] parameterTypeNames = StringUtils.commaDelimitedListToStringArray(parts[4]);
+				Class<?>[] parameterTypes = new Class<?>[parameterTypeNames.length];
+
+				for (int i = 0; i < parameterTypeNames.length; i++) {
+					parameterTypes[i] = ClassUtils.forName(parameterTypeNames[i], classLoader);
+				}
+
+				Method method = ReflectionUtils.findMethod(ClassUtils.forName(parts[2], classLoader), parts[3], parameterTypes);
+
+				if (method == null) {
+					return false;
+				}
+
+				methods.add(new EventHandlerMethod((Class<? extends RepositoryEvent>) ClassUtils.forName(parts[0], classLoader),
+						ClassUtils.forName(parts[1], classLoader), handler, method));
+			}
+
+		} catch (ClassNotFoundException e) {
+			return false;
+		} catch (LinkageError e) {
+			return false;
+		}
+
+		for (EventHandlerMethod method : methods) {
+			handlerMethods.add(method.eventType, method);
+		}
+
+		return true;
+	}
+
 	private <T extends Annotation> void inspect(Class<?> targetType, Object handler, Method method, Class<T> annoType,
-			Class<? extends RepositoryEvent> eventType) {
+			Class<? extends RepositoryEvent> eventType, List<EventHandlerMethod> found) {
 		T anno = method.getAnnotation(annoType);
 		if (null != anno) {
 			try {
@@ -128,11 +248,11 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 					targetTypes = new Class<?>[] { targetType };
 				}
 				for (Class<?> type : targetTypes) {
-					EventHandlerMethod m = new EventHandlerMethod(type, handler, method);
+					EventHandlerMethod m = new EventHandlerMethod(eventType, type, handler, method);
 					if (LOG.isDebugEnabled()) {
 						LOG.debug("Annotated handler method found: " + m);
 					}
-					handlerMethods.add(eventType, m);
+					found.add(m);
 				}
 			} catch (NoSuchMethodException e) {
 				if (LOG.isDebugEnabled()) {
@@ -151,16 +271,37 @@ public class AnnotatedHandlerBeanPostProcessor implements ApplicationListener<Re
 	}
 
 	private class EventHandlerMethod {
+		final Class<? extends RepositoryEvent> eventType;
 		final Class<?> targetType;
 		final Method method;
 		final Object handler;
 
-		private EventHandlerMethod(Class<?> targetType, Object handler, Method method) {
+		private EventHandlerMethod(Class<? extends RepositoryEvent> eventType, Class<?> targetType, Object handler,
+				Method method) {
+			this.eventType = eventType;
 			this.targetType = targetType;
 			this.method = method;
 			this.handler = handler;
 		}
 
+		/**
+		 * Returns a textual representation of the handler method to be stored in a {@link MetadataSnapshot}.
+		 * 
+		 * @return
+		 */
+		String toDescriptor() {
+
+			List<String> parameterTypes = new ArrayList<String>();
+
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				parameterTypes.add(ClassUtils.getQualifiedName(parameterType));
+			}
+
+			return StringUtils.arrayToDelimitedString(new Object[] { eventType.getName(), targetType.getName(),
+					method.getDeclaringClass().getName(), method.getName(),
+					StringUtils.collectionToCommaDelimitedString(parameterTypes) }, "|");
+		}
+
 		@Override
 		public String toString() {
 			return "EventHandlerMethod{" + "targetType=" + targetType + ", method=" + method + ", handler=" + handler + '}';
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.io.Serializable;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Executes tasks asynchronously on a fixed number of single-threaded lanes with bounded queues. Tasks for the same
+ * entity (identified by domain type and id) always end up in the same lane and are thus executed in the order they were
+ * submitted. Used by the {@link RepositoryEventBus} to deliver {@literal After*} events off the request thread.
+ * <p/>
+ * What happens if a lane's queue is full is controlled by the {@link OverflowPolicy}. Exceptions thrown by a task are
+ * handed to the configured {@link ErrorHandler}, which logs them by default.
+ * <p/>
+ * Note that listeners run outside of the request's transaction, so they must not rely on lazily loaded state of the
+ * entity they get handed.
+ *
+ * @author agent
+ */
+public class AsyncRepositoryEventExecutor implements DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncRepositoryEventExecutor.class);
+
+	/**
+	 * What to do with a task if the queue of the lane it belongs to is full.
+	 *
+	 * @author agent
+	 */
+	public static enum OverflowPolicy {
+
+		/**
+		 * Blocks the submitting thread until there's room in the queue. Preserves ordering.
+		 */
+		BLOCK,
+
+		/**
+		 * Executes the task on the submitting thread. Might execute the task before previously submitted ones for the
+		 * same entity.
+		 */
+		CALLER_RUNS,
+
+		/**
+		 * Drops the task and reports a {@link RejectedExecutionException} to the {@link ErrorHandler}.
+		 */
+		DISCARD;
+	}
+
+	private static final ErrorHandler LOGGING_ERROR_HANDLER = new ErrorHandler() {
+
+		@Override
+		public void handleError(Throwable t) {
+			LOG.error("Error delivering repository event asynchronously!", t);
+		}
+	};
+
+	private final Repositories repositories;
+	private final ThreadPoolExecutor[] lanes;
+	private final OverflowPolicy overflowPolicy;
+
+	private ErrorHandler errorHandler = LOGGING_ERROR_HANDLER;
+
+	/**
+	 * Creates a new {@link AsyncRepositoryEventExecutor} with as many lanes as there are processors available, a queue
+	 * capacity of 1000 per lane and {@link OverflowPolicy#BLOCK}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 */
+	public AsyncRepositoryEventExecutor(Repositories repositories) {
+		this(repositories, Runtime.getRuntime().availableProcessors(), 1000, OverflowPolicy.BLOCK);
+	}
+
+	/**
+	 * Creates a new {@link AsyncRepositoryEventExecutor}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param lanes the number of threads to use, must be greater than 0.
+	 * @param queueCapacity the number of pending tasks per lane, must be greater than 0.
+	 * @param overflowPolicy must not be {@literal null}.
+	 */
+	public AsyncRepositoryEventExecutor(Repositories repositories, int lanes, int queueCapacity,
+			OverflowPolicy overflowPolicy) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.isTrue(lanes > 0, "Number of lanes must be greater than 0!");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than 0!");
+		Assert.notNull(overflowPolicy, "OverflowPolicy must not be null!");
+
+		this.repositories = repositories;
+		this.overflowPolicy = overflowPolicy;
+		this.lanes = new ThreadPoolExecutor[lanes];
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("repository-events-");
+		threadFactory.setDaemon(true);
+
+		for (int i = 0; i < lanes; i++) {
+			this.lanes[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<Runnable>(queueCapacity), threadFactory, getRejectedExecutionHandler(overflowPolicy));
+		}
+	}
+
+	/**
+	 * Configures the {@link ErrorHandler} to be invoked with exceptions thrown by tasks or rejected tasks. Defaults to
+	 * logging them.
+	 *
+	 * @param errorHandler must not be {@literal null}.
+	 */
+	public void setErrorHandler(ErrorHandler errorHandler) {
+
+		Assert.notNull(errorHandler, "ErrorHandler must not be null!");
+		this.errorHandler = errorHandler;
+	}
+
+	/**
+	 * Returns the {@link OverflowPolicy} in use.
+	 *
+	 * @return
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * Executes the given task after all previously submitted tasks for the given entity.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param task must not be {@literal null}.
+	 */
+	public void execute(Object entity, final Runnable task) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		Assert.notNull(task, "Task must not be null!");
+
+		Runnable guarded = new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					task.run();
+				} catch (Throwable t) {
+					errorHandler.handleError(t);
+				}
+			}
+		};
+
+		int hash = getHash(entity);
+		hash ^= (hash >>> 16);
+
+		lanes[(hash & Integer.MAX_VALUE) % lanes.length].execute(guarded);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		for (ThreadPoolExecutor lane : lanes) {
+			lane.shutdown();
+		}
+
+		for (ThreadPoolExecutor lane : lanes) {
+			if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+				LOG.warn("Repository event lane did not terminate in time, dropping {} pending events.", lane.shutdownNow()
+						.size());
+			}
+		}
+	}
+
+	/**
+	 * Returns the hash to select the lane for the given entity. Uses domain type and id if available, the entity's
+	 * identity otherwise.
+	 *
+	 * @param entity
+	 * @return
+	 */
+	private int getHash(Object entity) {
+
+		Class<?> domainType = ClassUtils.getUserClass(entity);
+		EntityInformation<Object, Serializable> information = repositories.getEntityInformationFor(domainType);
+		Serializable id = information == null ? null : information.getId(entity);
+
+		return id == null ? System.identityHashCode(entity) : 31 * domainType.hashCode() + id.hashCode();
+	}
+
+	private RejectedExecutionHandler getRejectedExecutionHandler(OverflowPolicy policy) {
+
+		switch (policy) {
+
+			case BLOCK:
+				return new RejectedExecutionHandler() {
+
+					@Override
+					public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+
+						if (executor.isShutdown()) {
+							reject(task);
+							return;
+						}
+
+						try {
+							executor.getQueue().put(task);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+							reject(task);
+						}
+					}
+				};
+
+			case CALLER_RUNS:
+				return new RejectedExecutionHandler() {
+
+					@Override
+					public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+
+						if (executor.isShutdown()) {
+							reject(task);
+							return;
+						}
+
+						task.run();
+					}
+				};
+
+			case DISCARD:
+			default:
+				return new RejectedExecutionHandler() {
+
+					@Override
+					public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+						reject(task);
+					}
+				};
+		}
+	}
+
+	private void reject(Runnable task) {
+		errorHandler.handleError(new RejectedExecutionException("Dropped repository event as queue is full or shut down!"));
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+/**
+ * {@link SmartRepositoryEventListener} whose answer to {@link #supportsEvent(Class, Class)} can change over time, e.g.
+ * because handlers or validators get registered after the first event was published. The {@link RepositoryEventBus}
+ * asks such listeners on every event instead of caching their answer, so implementations should answer quickly.
+ *
+ * @author agent
+ */
+public interface DynamicRepositoryEventListener extends SmartRepositoryEventListener {
+
+}
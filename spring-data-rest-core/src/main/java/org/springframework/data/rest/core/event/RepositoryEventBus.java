@@ -0,0 +1,471 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.springframework.beans.factory.BeanFactoryUtils.*;
+
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Dedicated publisher for {@link RepositoryEvent}s. Instead of handing events to the {@link ApplicationContext}'s
+ * {@link org.springframework.context.event.ApplicationEventMulticaster}, which inspects every
+ * {@link ApplicationListener} of the context, it keeps a registry of the listeners interested in a particular event and
+ * domain type and dispatches to those directly. Events are only created if at least one listener is registered for
+ * them.
+ * <p/>
+ * Listeners are looked up from the {@link ApplicationContext} (and its ancestors) on first use. Listeners implementing
+ * {@link SmartRepositoryEventListener} get asked which events and domain types they are interested in, all other
+ * {@link ApplicationListener}s are selected by the event type they declare. The selection is cached per event and
+ * domain type, except for {@link DynamicRepositoryEventListener}s, which get asked on every event. If events need to go
+ * through the {@link ApplicationContext} (e.g. because a custom
+ * {@link org.springframework.context.event.ApplicationEventMulticaster} is configured), enable
+ * {@link #setBridgeToApplicationContext(boolean)}.
+ * <p/>
+ * If an {@link AsyncRepositoryEventExecutor} is configured, {@literal After*} events are delivered asynchronously,
+ * preserving their order per entity. {@literal Before*} events are always delivered synchronously as listeners might
+ * veto the operation by throwing an exception.
+ *
+ * @author agent
+ */
+public class RepositoryEventBus implements ApplicationContextAware, InitializingBean, DisposableBean {
+
+	private static final List<ApplicationListener<RepositoryEvent>> NO_LISTENERS = Collections.emptyList();
+
+	private final Map<ListenerCacheKey, List<ApplicationListener<RepositoryEvent>>> listenerCache = new ConcurrentHashMap<ListenerCacheKey, List<ApplicationListener<RepositoryEvent>>>();
+	private final Map<Class<?>, Constructor<?>> constructorCache = new ConcurrentHashMap<Class<?>, Constructor<?>>();
+	private final List<ApplicationListener<?>> additionalListeners = new CopyOnWriteArrayList<ApplicationListener<?>>();
+
+	private ApplicationContext context;
+	private boolean bridgeToApplicationContext = false;
+	private AsyncRepositoryEventExecutor asyncExecutor;
+	private volatile List<ApplicationListener<RepositoryEvent>> listeners;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationContextAware#setApplicationContext(org.springframework.context.ApplicationContext)
+	 */
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.context = applicationContext;
+		reset();
+	}
+
+	/**
+	 * Configures whether to publish all events through the {@link ApplicationContext} instead of dispatching them to
+	 * the registered listeners directly. Defaults to {@literal false}.
+	 *
+	 * @param bridgeToApplicationContext
+	 */
+	public void setBridgeToApplicationContext(boolean bridgeToApplicationContext) {
+		this.bridgeToApplicationContext = bridgeToApplicationContext;
+	}
+
+	/**
+	 * Configures the {@link AsyncRepositoryEventExecutor} to deliver {@literal After*} events asynchronously. Defaults
+	 * to {@literal null}, i.e. all events are delivered synchronously.
+	 *
+	 * @param asyncExecutor can be {@literal null}.
+	 */
+	public void setAsyncExecutor(AsyncRepositoryEventExecutor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Registers the given {@link ApplicationListener} in addition to the ones found in the {@link ApplicationContext}.
+	 *
+	 * @param listener must not be {@literal null}.
+	 */
+	public void addListener(ApplicationListener<? extends RepositoryEvent> listener) {
+
+		Assert.notNull(listener, "Listener must not be null!");
+
+		this.additionalListeners.add(listener);
+		reset();
+	}
+
+	/**
+	 * Returns whether there are listeners for the given event type and domain type.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public boolean hasListeners(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		if (bridgeToApplicationContext) {
+			return true;
+		}
+
+		for (ApplicationListener<RepositoryEvent> listener : getListeners(eventType, domainType)) {
+			if (isInterested(listener, eventType, domainType)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Publishes an event of the given type for the given entity. The event will only be created if there are listeners
+	 * for it.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
+	public void publishEvent(Class<? extends RepositoryEvent> eventType, Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		if (hasListeners(eventType, entity.getClass())) {
+			publishEvent(createEvent(eventType, entity));
+		}
+	}
+
+	/**
+	 * Publishes an event of the given type for the given entity and linked object. The event will only be created if
+	 * there are listeners for it.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param linked can be {@literal null}.
+	 */
+	public void publishEvent(Class<? extends LinkSaveEvent> eventType, Object entity, Object linked) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+
+		if (hasListeners(eventType, entity.getClass())) {
+			publishEvent(createEvent(eventType, entity, linked));
+		}
+	}
+
+	/**
+	 * Publishes the given {@link RepositoryEvent} to all listeners interested in it.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	public void publishEvent(final RepositoryEvent event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		if (asyncExecutor == null || !isAfterEvent(event)) {
+			dispatch(event);
+			return;
+		}
+
+		asyncExecutor.execute(event.getSource(), new Runnable() {
+
+			@Override
+			public void run() {
+				dispatch(event);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		Assert.isTrue(!bridgeToApplicationContext || context != null,
+				"Cannot bridge to the ApplicationContext without an ApplicationContext!");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		if (asyncExecutor != null) {
+			asyncExecutor.destroy();
+		}
+	}
+
+	private void dispatch(RepositoryEvent event) {
+
+		if (bridgeToApplicationContext) {
+			context.publishEvent(event);
+			return;
+		}
+
+		Class<? extends RepositoryEvent> eventType = event.getClass();
+		Class<?> domainType = event.getSource().getClass();
+
+		for (ApplicationListener<RepositoryEvent> listener : getListeners(eventType, domainType)) {
+			if (isInterested(listener, eventType, domainType)) {
+				listener.onApplicationEvent(event);
+			}
+		}
+	}
+
+	/**
+	 * Returns the listeners interested in events of the given type for the given domain type. As the answer of a
+	 * {@link DynamicRepositoryEventListener} must not be cached, those are always included and have to be checked using
+	 * {@link #isInterested(ApplicationListener, Class, Class)} before dispatching an event to them.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	private List<ApplicationListener<RepositoryEvent>> getListeners(Class<? extends RepositoryEvent> eventType,
+			Class<?> domainType) {
+
+		ListenerCacheKey key = new ListenerCacheKey(eventType, domainType);
+		List<ApplicationListener<RepositoryEvent>> result = listenerCache.get(key);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = new ArrayList<ApplicationListener<RepositoryEvent>>();
+
+		for (ApplicationListener<RepositoryEvent> listener : getAllListeners()) {
+			if (listener instanceof DynamicRepositoryEventListener || supports(listener, eventType, domainType)) {
+				result.add(listener);
+			}
+		}
+
+		result = result.isEmpty() ? NO_LISTENERS : Collections.unmodifiableList(result);
+		listenerCache.put(key, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns all listeners that might be interested in {@link RepositoryEvent}s, looking them up from the
+	 * {@link ApplicationContext} if necessary.
+	 *
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private List<ApplicationListener<RepositoryEvent>> getAllListeners() {
+
+		List<ApplicationListener<RepositoryEvent>> result = this.listeners;
+
+		if (result != null) {
+			return result;
+		}
+
+		synchronized (this) {
+
+			if (this.listeners != null) {
+				return this.listeners;
+			}
+
+			Set<ApplicationListener> candidates = new LinkedHashSet<ApplicationListener>();
+
+			if (context != null) {
+
+				candidates.addAll(beansOfTypeIncludingAncestors(context, ApplicationListener.class, true, false).values());
+
+				for (ApplicationContext current = context; current != null; current = current.getParent()) {
+					if (current instanceof AbstractApplicationContext) {
+						candidates.addAll(((AbstractApplicationContext) current).getApplicationListeners());
+					}
+				}
+			}
+
+			candidates.addAll(additionalListeners);
+			result = new ArrayList<ApplicationListener<RepositoryEvent>>();
+
+			for (ApplicationListener candidate : candidates) {
+				if (mightSupportRepositoryEvents(candidate)) {
+					result.add(candidate);
+				}
+			}
+
+			AnnotationAwareOrderComparator.sort(result);
+			this.listeners = result;
+
+			return result;
+		}
+	}
+
+	private static boolean isAfterEvent(RepositoryEvent event) {
+		return event instanceof AfterCreateEvent || event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent
+				|| event instanceof AfterLinkSaveEvent || event instanceof AfterLinkDeleteEvent;
+	}
+
+	private void reset() {
+		this.listeners = null;
+		this.listenerCache.clear();
+	}
+
+	private RepositoryEvent createEvent(Class<? extends RepositoryEvent> eventType, Object... arguments) {
+
+		Constructor<?> constructor = constructorCache.get(eventType);
+
+		if (constructor == null) {
+
+			Class<?>[] parameterTypes = new Class<?>[arguments.length];
+
+			for (int i = 0; i < arguments.length; i++) {
+				parameterTypes[i] = Object.class;
+			}
+
+			constructor = ClassUtils.getConstructorIfAvailable(eventType, parameterTypes);
+			Assert.notNull(constructor, String.format("%s does not declare a constructor taking %s arguments!",
+					eventType.getName(), arguments.length));
+			constructorCache.put(eventType, constructor);
+		}
+
+		return (RepositoryEvent) BeanUtils.instantiateClass(constructor, arguments);
+	}
+
+	/**
+	 * Returns whether the given {@link ApplicationListener} might ever be interested in a {@link RepositoryEvent}.
+	 *
+	 * @param listener
+	 * @return
+	 */
+	private static boolean mightSupportRepositoryEvents(ApplicationListener<?> listener) {
+
+		if (listener instanceof SmartRepositoryEventListener) {
+			return true;
+		}
+
+		if (listener instanceof SmartApplicationListener) {
+			return true;
+		}
+
+		Class<?> declaredEventType = getDeclaredEventType(listener);
+		return declaredEventType == null || declaredEventType.isAssignableFrom(RepositoryEvent.class)
+				|| RepositoryEvent.class.isAssignableFrom(declaredEventType);
+	}
+
+	/**
+	 * Returns whether the given {@link ApplicationListener} is interested in events of the given type for the given
+	 * domain type.
+	 *
+	 * @param listener
+	 * @param eventType
+	 * @param domainType
+	 * @return
+	 */
+	private static boolean supports(ApplicationListener<?> listener, Class<? extends RepositoryEvent> eventType,
+			Class<?> domainType) {
+
+		if (listener instanceof SmartRepositoryEventListener) {
+			return ((SmartRepositoryEventListener) listener).supportsEvent(eventType, domainType);
+		}
+
+		if (listener instanceof SmartApplicationListener) {
+			SmartApplicationListener smartListener = (SmartApplicationListener) listener;
+			return smartListener.supportsEventType(eventType) && smartListener.supportsSourceType(domainType);
+		}
+
+		Class<?> declaredEventType = getDeclaredEventType(listener);
+		return declaredEventType == null || declaredEventType.isAssignableFrom(eventType);
+	}
+
+	/**
+	 * Returns whether the given listener selected by {@link #getListeners(Class, Class)} is currently interested in events
+	 * of the given type for the given domain type.
+	 *
+	 * @param listener
+	 * @param eventType
+	 * @param domainType
+	 * @return
+	 */
+	private static boolean isInterested(ApplicationListener<RepositoryEvent> listener,
+			Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+		return !(listener instanceof DynamicRepositoryEventListener)
+				|| ((DynamicRepositoryEventListener) listener).supportsEvent(eventType, domainType);
+	}
+
+	private static Class<?> getDeclaredEventType(ApplicationListener<?> listener) {
+
+		Class<?> declaredEventType = GenericTypeResolver.resolveTypeArgument(listener.getClass(), ApplicationListener.class);
+
+		if ((declaredEventType == null || ApplicationEvent.class.equals(declaredEventType))
+				&& AopUtils.isAopProxy(listener)) {
+			declaredEventType = GenericTypeResolver.resolveTypeArgument(AopUtils.getTargetClass(listener),
+					ApplicationListener.class);
+		}
+
+		return declaredEventType;
+	}
+
+	/**
+	 * Cache key for the listeners interested in a combination of event and domain type.
+	 *
+	 * @author agent
+	 */
+	private static final class ListenerCacheKey {
+
+		private final Class<?> eventType;
+		private final Class<?> domainType;
+
+		public ListenerCacheKey(Class<?> eventType, Class<?> domainType) {
+			this.eventType = eventType;
+			this.domainType = domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ListenerCacheKey)) {
+				return false;
+			}
+
+			ListenerCacheKey that = (ListenerCacheKey) obj;
+			return this.eventType.equals(that.eventType) && this.domainType.equals(that.domainType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return 31 * eventType.hashCode() + domainType.hashCode();
+		}
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Extension of {@link ApplicationListener} for {@link RepositoryEvent}s that can tell up front which events and domain
+ * types it is interested in. Used by the {@link RepositoryEventBus} to only dispatch events to (and only create events
+ * for) listeners that actually care about them.
+ *
+ * @author agent
+ */
+public interface SmartRepositoryEventListener extends ApplicationListener<RepositoryEvent> {
+
+	/**
+	 * Returns whether the listener wants to be notified of events of the given type for entities of the given domain
+	 * type.
+	 *
+	 * @param eventType will never be {@literal null}.
+	 * @param domainType will never be {@literal null}.
+	 * @return
+	 */
+	boolean supportsEvent(Class<? extends RepositoryEvent> eventType, Class<?> domainType);
+}
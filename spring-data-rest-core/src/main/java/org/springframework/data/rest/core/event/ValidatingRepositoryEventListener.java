@@ -8,8 +8,10 @@ import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,20 +37,24 @@ import org.springframework.validation.Validator;
 
 /**
  * {@link org.springframework.context.ApplicationListener} implementation that dispatches {@link RepositoryEvent}s to a
- * specific {@link Validator}.
+ * specific {@link Validator}. The {@link Validator}s supporting a domain type are looked up once per event and domain
+ * type, so that events no {@link Validator} is registered for cause no work at all.
  * 
  * @author Jon Brisbin <jbrisbin@vmware.com>
  */
 public class ValidatingRepositoryEventListener extends AbstractRepositoryEventListener<Object> implements
-		InitializingBean {
+		DynamicRepositoryEventListener, InitializingBean {
 
 	private static final Logger LOG = LoggerFactory.getLogger(ValidatingRepositoryEventListener.class);
 	@SuppressWarnings({ "unchecked" }) private static final List<Class<? extends Annotation>> ANNOTATIONS_TO_FIND = Arrays
 			.asList(HandleBeforeSave.class, HandleAfterSave.class, HandleBeforeDelete.class, HandleAfterDelete.class,
 					HandleBeforeLinkSave.class, HandleAfterLinkSave.class, HandleBeforeLinkDelete.class,
 					HandleAfterLinkDelete.class);
+	private static final List<Validator> NO_VALIDATORS = Collections.emptyList();
+
 	@Autowired private Repositories repositories;
 	private MultiValueMap<String, Validator> validators = new LinkedMultiValueMap<String, Validator>();
+	private final Map<String, Map<Class<?>, List<Validator>>> validatorIndex = new ConcurrentHashMap<String, Map<Class<?>, List<Validator>>>();
 
 	@Override
 	public void afterPropertiesSet() throws Exception {
@@ -78,6 +84,8 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 				}
 			}
 		}
+
+		validatorIndex.clear();
 	}
 
 	/**
@@ -99,6 +107,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 		for (Map.Entry<String, Collection<Validator>> entry : validators.entrySet()) {
 			this.validators.put(entry.getKey(), new ArrayList<Validator>(entry.getValue()));
 		}
+		validatorIndex.clear();
 		return this;
 	}
 
@@ -111,9 +120,21 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 */
 	public ValidatingRepositoryEventListener addValidator(String event, Validator validator) {
 		validators.add(event, validator);
+		validatorIndex.clear();
 		return this;
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.event.AbstractRepositoryEventListener#supportsEvent(java.lang.Class, java.lang.Class)
+	 */
+	@Override
+	public boolean supportsEvent(Class<? extends RepositoryEvent> eventType, Class<?> domainType) {
+
+		String event = getEventName(eventType);
+		return event != null && !getValidatorsFor(event, domainType).isEmpty();
+	}
+
 	@Override
 	protected void onBeforeCreate(Object entity) {
 		validate("beforeCreate", entity);
@@ -155,27 +176,101 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	}
 
 	private Errors validate(String event, Object o) {
-		Errors errors = null;
-		if (null != o) {
-			Class<?> domainType = o.getClass();
-			errors = new ValidationErrors(domainType.getSimpleName(), o, repositories.getPersistentEntity(domainType));
-
-			Collection<Validator> validators = this.validators.get(event);
-			if (null != validators) {
-				for (Validator v : validators) {
-					if (v.supports(o.getClass())) {
-						LOG.debug(event + ": " + o + " with " + v);
-						ValidationUtils.invokeValidator(v, o, errors);
-					}
-				}
-			}
 
-			if (errors.getErrorCount() > 0) {
-				throw new RepositoryConstraintViolationException(errors);
+		if (null == o) {
+			return null;
+		}
+
+		Class<?> domainType = o.getClass();
+		List<Validator> validators = getValidatorsFor(event, domainType);
+
+		if (validators.isEmpty()) {
+			return null;
+		}
+
+		Errors errors = new ValidationErrors(domainType.getSimpleName(), o, repositories.getPersistentEntity(domainType));
+
+		for (Validator v : validators) {
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(event + ": " + o + " with " + v);
 			}
+			ValidationUtils.invokeValidator(v, o, errors);
+		}
+
+		if (errors.getErrorCount() > 0) {
+			throw new RepositoryConstraintViolationException(errors);
 		}
 
 		return errors;
 	}
 
+	/**
+	 * Returns the {@link Validator}s registered for the given event that support the given domain type.
+	 * 
+	 * @param event must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	private List<Validator> getValidatorsFor(String event, Class<?> domainType) {
+
+		Map<Class<?>, List<Validator>> byDomainType = validatorIndex.get(event);
+
+		if (byDomainType == null) {
+			byDomainType = new ConcurrentHashMap<Class<?>, List<Validator>>();
+			validatorIndex.put(event, byDomainType);
+		}
+
+		List<Validator> result = byDomainType.get(domainType);
+
+		if (result != null) {
+			return result;
+		}
+
+		List<Validator> candidates = this.validators.get(event);
+		result = new ArrayList<Validator>();
+
+		if (null != candidates) {
+			for (Validator v : candidates) {
+				if (v.supports(domainType)) {
+					result.add(v);
+				}
+			}
+		}
+
+		result = result.isEmpty() ? NO_VALIDATORS : result;
+		byDomainType.put(domainType, result);
+
+		return result;
+	}
+
+	/**
+	 * Returns the name of the given event type as used to register {@link Validator}s or {@literal null} if events of
+	 * the given type are not validated.
+	 * 
+	 * @param eventType
+	 * @return
+	 */
+	private static String getEventName(Class<? extends RepositoryEvent> eventType) {
+
+		if (BeforeSaveEvent.class.isAssignableFrom(eventType)) {
+			return "beforeSave";
+		} else if (BeforeCreateEvent.class.isAssignableFrom(eventType)) {
+			return "beforeCreate";
+		} else if (AfterCreateEvent.class.isAssignableFrom(eventType)) {
+			return "afterCreate";
+		} else if (AfterSaveEvent.class.isAssignableFrom(eventType)) {
+			return "afterSave";
+		} else if (BeforeLinkSaveEvent.class.isAssignableFrom(eventType)) {
+			return "beforeLinkSave";
+		} else if (AfterLinkSaveEvent.class.isAssignableFrom(eventType)) {
+			return "afterLinkSave";
+		} else if (BeforeDeleteEvent.class.isAssignableFrom(eventType)) {
+			return "beforeDelete";
+		} else if (AfterDeleteEvent.class.isAssignableFrom(eventType)) {
+			return "afterDelete";
+		}
+
+		return null;
+	}
+
 }
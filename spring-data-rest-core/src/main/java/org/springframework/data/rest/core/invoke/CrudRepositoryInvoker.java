@@ -101,4 +101,18 @@ class CrudRepositoryInvoker extends ReflectionRepositoryInvoker {
 	public void invokeDelete(Serializable id) {
 		repository.delete(convertId(id));
 	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.ReflectionRepositoryInvoker#invokeDelete(java.io.Serializable, java.lang.Object)
+	 */
+	@Override
+	public void invokeDelete(Serializable id, Object entity) {
+
+		if (entity == null) {
+			invokeDelete(id);
+		} else {
+			repository.delete(entity);
+		}
+	}
 }
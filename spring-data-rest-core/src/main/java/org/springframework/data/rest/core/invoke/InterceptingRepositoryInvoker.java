@@ -0,0 +1,270 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryInvoker} that routes all invocations through a chain of {@link RepositoryInvokerInterceptor}s
+ * before handing them to the actual {@link RepositoryInvoker}.
+ * 
+ * @author agent
+ */
+class InterceptingRepositoryInvoker implements RepositoryInvoker {
+
+	private final RepositoryInvoker delegate;
+	private final Class<?> domainType;
+	private final RepositoryInvokerInterceptor[] interceptors;
+
+	/**
+	 * Creates a new {@link InterceptingRepositoryInvoker} for the given {@link RepositoryInvoker}, domain type and
+	 * {@link RepositoryInvokerInterceptor}s.
+	 * 
+	 * @param delegate must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param interceptors must not be {@literal null} or empty.
+	 */
+	public InterceptingRepositoryInvoker(RepositoryInvoker delegate, Class<?> domainType,
+			List<? extends RepositoryInvokerInterceptor> interceptors) {
+
+		Assert.notNull(delegate, "RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notEmpty(interceptors, "Interceptors must not be null or empty!");
+
+		this.delegate = delegate;
+		this.domainType = domainType;
+		this.interceptors = interceptors.toArray(new RepositoryInvokerInterceptor[interceptors.size()]);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#exposesSave()
+	 */
+	@Override
+	public boolean exposesSave() {
+		return delegate.exposesSave();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#exposesDelete()
+	 */
+	@Override
+	public boolean exposesDelete() {
+		return delegate.exposesDelete();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#exposesFindOne()
+	 */
+	@Override
+	public boolean exposesFindOne() {
+		return delegate.exposesFindOne();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvocationInformation#exposesFindAll()
+	 */
+	@Override
+	public boolean exposesFindAll() {
+		return delegate.exposesFindAll();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeSave(java.lang.Object)
+	 */
+	@Override
+	public Object invokeSave(Object object) {
+		return new Invocation(RepositoryOperation.SAVE, null, false, object).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeFindOne(java.io.Serializable)
+	 */
+	@Override
+	public Object invokeFindOne(Serializable id) {
+		return new Invocation(RepositoryOperation.FIND_ONE, null, false, id).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterable<Object> invokeFindAll(Pageable pageable) {
+		return (Iterable<Object>) new Invocation(RepositoryOperation.FIND_ALL, null, true, pageable).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public Iterable<Object> invokeFindAll(Sort sort) {
+		return (Iterable<Object>) new Invocation(RepositoryOperation.FIND_ALL, null, false, sort).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDelete(java.io.Serializable)
+	 */
+	@Override
+	public void invokeDelete(Serializable id) {
+		invokeDelete(id, null);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDelete(java.io.Serializable, java.lang.Object)
+	 */
+	@Override
+	public void invokeDelete(Serializable id, Object entity) {
+		new Invocation(RepositoryOperation.DELETE, null, false, id, entity).proceed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort) {
+		return new Invocation(RepositoryOperation.QUERY_METHOD, method, false, parameters, pageable, sort).proceed();
+	}
+
+	/**
+	 * A single invocation travelling through the interceptor chain.
+	 * 
+	 * @author agent
+	 */
+	private class Invocation implements RepositoryInvocation {
+
+		private final RepositoryOperation operation;
+		private final Method queryMethod;
+		private final boolean paged;
+		private final Object[] arguments;
+
+		private int index = 0;
+
+		/**
+		 * @param operation the {@link RepositoryOperation} invoked.
+		 * @param queryMethod the query method for {@link RepositoryOperation#QUERY_METHOD}.
+		 * @param paged whether the {@link RepositoryOperation#FIND_ALL} invocation was issued with a {@link Pageable}.
+		 * @param arguments the arguments of the invocation.
+		 */
+		public Invocation(RepositoryOperation operation, Method queryMethod, boolean paged, Object... arguments) {
+
+			this.operation = operation;
+			this.queryMethod = queryMethod;
+			this.paged = paged;
+			this.arguments = arguments;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.invoke.RepositoryInvocation#getOperation()
+		 */
+		@Override
+		public RepositoryOperation getOperation() {
+			return operation;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.invoke.RepositoryInvocation#getDomainType()
+		 */
+		@Override
+		public Class<?> getDomainType() {
+			return domainType;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.invoke.RepositoryInvocation#getQueryMethod()
+		 */
+		@Override
+		public Method getQueryMethod() {
+			return queryMethod;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.invoke.RepositoryInvocation#getArguments()
+		 */
+		@Override
+		public Object[] getArguments() {
+			return arguments;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.core.invoke.RepositoryInvocation#proceed()
+		 */
+		@Override
+		public Object proceed() {
+
+			if (index == interceptors.length) {
+				return invokeDelegate();
+			}
+
+			RepositoryInvokerInterceptor interceptor = interceptors[index++];
+
+			try {
+				return interceptor.invoke(this);
+			} finally {
+				index--;
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		private Object invokeDelegate() {
+
+			switch (operation) {
+
+				case FIND_ONE:
+					return delegate.invokeFindOne((Serializable) arguments[0]);
+
+				case FIND_ALL:
+					return paged ? delegate.invokeFindAll((Pageable) arguments[0]) : delegate
+							.invokeFindAll((Sort) arguments[0]);
+
+				case SAVE:
+					return delegate.invokeSave(arguments[0]);
+
+				case DELETE:
+					delegate.invokeDelete((Serializable) arguments[0], arguments[1]);
+					return null;
+
+				case QUERY_METHOD:
+				default:
+					return delegate.invokeQueryMethod(queryMethod, (Map<String, String[]>) arguments[0],
+							(Pageable) arguments[1], (Sort) arguments[2]);
+			}
+		}
+	}
+}
@@ -165,13 +165,22 @@ class ReflectionRepositoryInvoker implements RepositoryInvoker {
 	 */
 	@Override
 	public void invokeDelete(Serializable id) {
+		invokeDelete(id, null);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvoker#invokeDelete(java.io.Serializable, java.lang.Object)
+	 */
+	@Override
+	public void invokeDelete(Serializable id, Object entity) {
 
 		Method method = methods.getDeleteMethod();
 
 		if (method.getParameterTypes()[0].equals(Serializable.class)) {
 			invoke(method, convertId(id));
 		} else {
-			invoke(method, invokeFindOne(id));
+			invoke(method, entity == null ? invokeFindOne(id) : entity);
 		}
 	}
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import java.lang.reflect.Method;
+
+/**
+ * A call to a {@link RepositoryInvoker} as seen by a {@link RepositoryInvokerInterceptor}.
+ * 
+ * @author agent
+ * @see RepositoryOperation
+ */
+public interface RepositoryInvocation {
+
+	/**
+	 * Returns the operation being invoked.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	RepositoryOperation getOperation();
+
+	/**
+	 * Returns the domain type of the repository the operation is invoked on.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	Class<?> getDomainType();
+
+	/**
+	 * Returns the query method to be invoked for {@link RepositoryOperation#QUERY_METHOD}.
+	 * 
+	 * @return the query method or {@literal null} for all other operations.
+	 */
+	Method getQueryMethod();
+
+	/**
+	 * Returns the arguments of the invocation as documented on {@link RepositoryOperation}. The array can be modified
+	 * before calling {@link #proceed()} to change the arguments handed to the next interceptor or the repository.
+	 * 
+	 * @return will never be {@literal null}.
+	 */
+	Object[] getArguments();
+
+	/**
+	 * Invokes the next interceptor in the chain or the repository itself if there's none left.
+	 * 
+	 * @return the result of the invocation, {@literal null} for {@link RepositoryOperation#DELETE}.
+	 */
+	Object proceed();
+}
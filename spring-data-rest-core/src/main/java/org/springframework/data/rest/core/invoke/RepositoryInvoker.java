@@ -37,5 +37,14 @@ public interface RepositoryInvoker extends RepositoryInvocationInformation {
 
 	void invokeDelete(Serializable serializable);
 
+	/**
+	 * Deletes the entity with the given id. If the entity has already been loaded, it's handed to the repository's
+	 * delete method instead of being looked up again if that method takes an entity.
+	 * 
+	 * @param id must not be {@literal null}.
+	 * @param entity the entity with the given id if already loaded, can be {@literal null}.
+	 */
+	void invokeDelete(Serializable id, Object entity);
+
 	Object invokeQueryMethod(Method method, Map<String, String[]> parameters, Pageable pageable, Sort sort);
 }
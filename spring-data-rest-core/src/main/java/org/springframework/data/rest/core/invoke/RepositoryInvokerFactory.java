@@ -16,16 +16,25 @@
 package org.springframework.data.rest.core.invoke;
 
 import java.io.Serializable;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.PagingAndSortingRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.Assert;
 
 /**
+ * Factory to create {@link RepositoryInvoker}s for domain types. If {@link RepositoryInvokerInterceptor}s are
+ * registered, the invokers returned route all calls through them. Without interceptors the plain invokers are handed
+ * out, so that no additional overhead is introduced.
+ * 
  * @author Oliver Gierke
  */
 public class RepositoryInvokerFactory {
@@ -34,6 +43,7 @@ public class RepositoryInvokerFactory {
 	private final ConversionService conversionService;
 
 	private final Map<Class<?>, RepositoryInvoker> invokers;
+	private List<RepositoryInvokerInterceptor> interceptors = Collections.emptyList();
 
 	/**
 	 * @param repositories
@@ -42,8 +52,25 @@ public class RepositoryInvokerFactory {
 
 		this.repositories = repositories;
 		this.conversionService = conversionService;
-		this.invokers = new HashMap<Class<?>, RepositoryInvoker>();
+		this.invokers = new ConcurrentHashMap<Class<?>, RepositoryInvoker>();
+	}
+
+	/**
+	 * Registers the given {@link RepositoryInvokerInterceptor}s to be applied to all {@link RepositoryInvoker}s created.
+	 * The interceptors will be sorted according to {@link org.springframework.core.Ordered} and
+	 * {@link org.springframework.core.annotation.Order}.
+	 * 
+	 * @param interceptors must not be {@literal null}.
+	 */
+	public void setInterceptors(List<? extends RepositoryInvokerInterceptor> interceptors) {
+
+		Assert.notNull(interceptors, "Interceptors must not be null!");
 
+		List<RepositoryInvokerInterceptor> sorted = new ArrayList<RepositoryInvokerInterceptor>(interceptors);
+		AnnotationAwareOrderComparator.sort(sorted);
+
+		this.interceptors = sorted;
+		this.invokers.clear();
 	}
 
 	@SuppressWarnings("unchecked")
@@ -72,6 +99,11 @@ public class RepositoryInvokerFactory {
 		}
 
 		invoker = prepareInvokers(domainType);
+
+		if (!interceptors.isEmpty()) {
+			invoker = new InterceptingRepositoryInvoker(invoker, domainType, interceptors);
+		}
+
 		invokers.put(domainType, invoker);
 
 		return invoker;
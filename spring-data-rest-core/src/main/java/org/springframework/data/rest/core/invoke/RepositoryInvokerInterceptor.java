@@ -0,0 +1,38 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+/**
+ * Callback interface to intercept calls of a {@link RepositoryInvoker}. Interceptors are registered with the
+ * {@link RepositoryInvokerFactory} and applied in the order defined by
+ * {@link org.springframework.core.Ordered} or {@link org.springframework.core.annotation.Order}.
+ * <p/>
+ * Implementations usually call {@link RepositoryInvocation#proceed()} and return its result. They can short-circuit the
+ * invocation by returning a value without proceeding, which has to be compatible with the return type of the
+ * {@link RepositoryInvoker} method invoked, i.e. an {@link Iterable} for {@link RepositoryOperation#FIND_ALL}.
+ * 
+ * @author agent
+ */
+public interface RepositoryInvokerInterceptor {
+
+	/**
+	 * Intercepts the given {@link RepositoryInvocation}.
+	 * 
+	 * @param invocation will never be {@literal null}.
+	 * @return the result of the invocation.
+	 */
+	Object invoke(RepositoryInvocation invocation);
+}
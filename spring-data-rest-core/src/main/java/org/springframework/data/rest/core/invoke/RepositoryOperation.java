@@ -0,0 +1,56 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+/**
+ * The operations a {@link RepositoryInvoker} executes on a repository. Handed to {@link RepositoryInvokerInterceptor}s
+ * through {@link RepositoryInvocation#getOperation()}.
+ * 
+ * @author agent
+ */
+public enum RepositoryOperation {
+
+	/**
+	 * {@link RepositoryInvoker#invokeFindOne(java.io.Serializable)}, the single argument is the id.
+	 */
+	FIND_ONE,
+
+	/**
+	 * {@link RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)} or
+	 * {@link RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)}, the single argument is the
+	 * {@link org.springframework.data.domain.Pageable} or {@link org.springframework.data.domain.Sort}.
+	 */
+	FIND_ALL,
+
+	/**
+	 * {@link RepositoryInvoker#invokeSave(Object)}, the single argument is the entity.
+	 */
+	SAVE,
+
+	/**
+	 * {@link RepositoryInvoker#invokeDelete(java.io.Serializable, Object)}, the arguments are the id and the entity if it
+	 * has already been loaded, {@literal null} otherwise.
+	 */
+	DELETE,
+
+	/**
+	 * {@link RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, java.util.Map,
+	 * org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)}, the arguments are the request
+	 * parameters, the {@link org.springframework.data.domain.Pageable} and the
+	 * {@link org.springframework.data.domain.Sort}.
+	 */
+	QUERY_METHOD;
+}
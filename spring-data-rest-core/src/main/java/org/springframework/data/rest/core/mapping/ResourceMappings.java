@@ -21,8 +21,17 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.Path;
@@ -44,8 +53,8 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 	private final RelProvider relProvider;
 
 	private final Map<Class<?>, ResourceMetadata> cache = new HashMap<Class<?>, ResourceMetadata>();
-	private final Map<Class<?>, SearchResourceMappings> searchCache = new HashMap<Class<?>, SearchResourceMappings>();
-	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new HashMap<PersistentProperty<?>, ResourceMapping>();
+	private final Map<Class<?>, SearchResourceMappings> searchCache = new ConcurrentHashMap<Class<?>, SearchResourceMappings>();
+	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new ConcurrentHashMap<PersistentProperty<?>, ResourceMapping>();
 
 	/**
 	 * Creates a new {@link ResourceMappings} using the given {@link RepositoryRestConfiguration} and {@link Repositories}
@@ -109,6 +118,69 @@ public class ResourceMappings implements Iterable<ResourceMetadata> {
 		}
 	}
 
+	/**
+	 * Computes the search resource mappings and property mappings of all domain types upfront instead of on first
+	 * access. The domain types are processed concurrently using the given {@link ExecutorService}, this method returns
+	 * once all of them are done.
+	 * 
+	 * @param executor must not be {@literal null}.
+	 * @throws InterruptedException if interrupted while waiting for the computation to finish.
+	 */
+	public void initialize(ExecutorService executor) throws InterruptedException {
+
+		Assert.notNull(executor, "ExecutorService must not be null!");
+
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>();
+
+		for (final Class<?> type : repositories) {
+
+			tasks.add(new Callable<Object>() {
+
+				@Override
+				public Object call() {
+					initialize(type);
+					return null;
+				}
+			});
+		}
+
+		for (Future<Object> future : executor.invokeAll(tasks)) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Could not initialize resource mappings!", e.getCause());
+			}
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private void initialize(Class<?> type) {
+
+		getSearchResourceMappings(type);
+
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(type);
+
+		if (entity == null) {
+			return;
+		}
+
+		entity.doWithProperties(new PropertyHandler() {
+
+			@Override
+			public void doWithPersistentProperty(PersistentProperty property) {
+				getMappingFor(property);
+			}
+		});
+
+		entity.doWithAssociations(new AssociationHandler() {
+
+			@Override
+			public void doWithAssociation(Association association) {
+				getMappingFor(association.getInverse());
+			}
+		});
+	}
+
 	/**
 	 * Returns the {@link ResourceMapping}s for the search resources of the given type.
 	 * 
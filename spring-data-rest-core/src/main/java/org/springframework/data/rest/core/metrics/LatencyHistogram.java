@@ -0,0 +1,164 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds. Values are counted in log-linear buckets: every power of two is
+ * split into {@value #SUB_BUCKET_COUNT} linear sub-buckets, so that reported values are within about 3% of the actual
+ * ones. Recording is a handful of atomic operations and does not allocate.
+ * <p/>
+ * Reads are not synchronized with concurrent writes, so a snapshot taken under load might be off by the values
+ * recorded while it was taken.
+ * 
+ * @author agent
+ */
+public class LatencyHistogram {
+
+	private static final int SUB_BUCKET_BITS = 5;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+	/**
+	 * Largest value tracked, larger ones are recorded as this value (about 73 minutes).
+	 */
+	static final long MAX_VALUE = (1L << 42) - 1;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(indexFor(MAX_VALUE) + 1);
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong total = new AtomicLong();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Records the given latency.
+	 * 
+	 * @param nanos the latency in nanoseconds, negative values are recorded as 0.
+	 */
+	public void record(long nanos) {
+
+		long value = nanos < 0 ? 0 : nanos > MAX_VALUE ? MAX_VALUE : nanos;
+
+		buckets.incrementAndGet(indexFor(value));
+		count.incrementAndGet();
+		total.addAndGet(value);
+
+		long currentMax = max.get();
+
+		while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+			currentMax = max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of values recorded.
+	 * 
+	 * @return
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the largest value recorded in nanoseconds.
+	 * 
+	 * @return
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of all values recorded in nanoseconds.
+	 * 
+	 * @return
+	 */
+	public long getMean() {
+
+		long count = this.count.get();
+		return count == 0 ? 0 : total.get() / count;
+	}
+
+	/**
+	 * Returns the value in nanoseconds below which the given percentage of the recorded values fall.
+	 * 
+	 * @param percentile between 0 and 100.
+	 * @return the value or 0 if no values were recorded yet.
+	 */
+	public long getValueAtPercentile(double percentile) {
+
+		long count = this.count.get();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long threshold = Math.max(1, (long) Math.ceil(Math.min(percentile, 100.0) / 100.0 * count));
+		long seen = 0;
+
+		for (int i = 0; i < buckets.length(); i++) {
+
+			seen += buckets.get(i);
+
+			if (seen >= threshold) {
+				return Math.min(highestValueIn(i), max.get());
+			}
+		}
+
+		return max.get();
+	}
+
+	/**
+	 * Returns the bucket index for the given value. Values smaller than {@link #SUB_BUCKET_COUNT} have a bucket of
+	 * their own, all others share a bucket with the values equal to them in their {@link #SUB_BUCKET_BITS} + 1 most
+	 * significant bits.
+	 * 
+	 * @param value must not be negative.
+	 * @return
+	 */
+	static int indexFor(long value) {
+
+		int highestBit = 63 - Long.numberOfLeadingZeros(value);
+
+		if (highestBit < SUB_BUCKET_BITS) {
+			return (int) value;
+		}
+
+		int shift = highestBit - SUB_BUCKET_BITS;
+		int subBucket = (int) (value >>> shift) & SUB_BUCKET_MASK;
+
+		return ((shift + 1) << SUB_BUCKET_BITS) + subBucket;
+	}
+
+	/**
+	 * Returns the highest value that ends up in the bucket with the given index.
+	 * 
+	 * @param index
+	 * @return
+	 */
+	static long highestValueIn(int index) {
+
+		int block = index >>> SUB_BUCKET_BITS;
+
+		if (block == 0) {
+			return index;
+		}
+
+		long lowest = (long) ((index & SUB_BUCKET_MASK) + SUB_BUCKET_COUNT) << (block - 1);
+		return lowest + (1L << (block - 1)) - 1;
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.core.Ordered;
+import org.springframework.data.rest.core.invoke.RepositoryInvocation;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor;
+import org.springframework.data.rest.core.invoke.RepositoryOperation;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryInvokerInterceptor} to record {@link OperationMetrics} for all repository invocations. Metrics are
+ * grouped by domain type and named after the {@link RepositoryOperation} or the signature of the query method invoked,
+ * e.g. {@code findByLastname(String,Pageable)}. Runs before all other interceptors, so that the time recorded includes
+ * them.
+ * 
+ * @author agent
+ */
+public class MetricsRecordingRepositoryInvokerInterceptor implements RepositoryInvokerInterceptor, Ordered {
+
+	private static final RepositoryOperation[] OPERATIONS = RepositoryOperation.values();
+
+	private final MetricsRegistry registry;
+	private final ConcurrentMap<Class<?>, OperationMetrics[]> operationMetrics = new ConcurrentHashMap<Class<?>, OperationMetrics[]>();
+	private final ConcurrentMap<Method, OperationMetrics> queryMethodMetrics = new ConcurrentHashMap<Method, OperationMetrics>();
+
+	/**
+	 * Creates a new {@link MetricsRecordingRepositoryInvokerInterceptor} recording into the given
+	 * {@link MetricsRegistry}.
+	 * 
+	 * @param registry must not be {@literal null}.
+	 */
+	public MetricsRecordingRepositoryInvokerInterceptor(MetricsRegistry registry) {
+
+		Assert.notNull(registry, "MetricsRegistry must not be null!");
+		this.registry = registry;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor#invoke(org.springframework.data.rest.core.invoke.RepositoryInvocation)
+	 */
+	@Override
+	public Object invoke(RepositoryInvocation invocation) {
+
+		OperationMetrics metrics = getMetricsFor(invocation);
+		long start = System.nanoTime();
+		boolean failed = true;
+
+		try {
+			Object result = invocation.proceed();
+			failed = false;
+			return result;
+		} finally {
+			metrics.record(System.nanoTime() - start, failed);
+		}
+	}
+
+	private OperationMetrics getMetricsFor(RepositoryInvocation invocation) {
+
+		Class<?> domainType = invocation.getDomainType();
+
+		if (invocation.getOperation() == RepositoryOperation.QUERY_METHOD) {
+
+			Method method = invocation.getQueryMethod();
+			OperationMetrics metrics = queryMethodMetrics.get(method);
+
+			if (metrics == null) {
+				metrics = registry.getMetrics(domainType.getName(), method);
+				queryMethodMetrics.putIfAbsent(method, metrics);
+			}
+
+			return metrics;
+		}
+
+		OperationMetrics[] metrics = operationMetrics.get(domainType);
+
+		if (metrics == null) {
+			operationMetrics.putIfAbsent(domainType, new OperationMetrics[OPERATIONS.length]);
+			metrics = operationMetrics.get(domainType);
+		}
+
+		int index = invocation.getOperation().ordinal();
+
+		// Racing threads get the same instance handed from the registry
+		if (metrics[index] == null) {
+			metrics[index] = registry.getMetrics(domainType.getName(), invocation.getOperation().name());
+		}
+
+		return metrics[index];
+	}
+}
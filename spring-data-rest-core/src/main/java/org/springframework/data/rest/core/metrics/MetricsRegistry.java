@@ -0,0 +1,183 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.util.Assert;
+
+/**
+ * In-process registry of {@link OperationMetrics} identified by a group (e.g. the domain type of a repository or the
+ * controller) and a name (e.g. the operation or the controller method). If an {@link MBeanServer} is configured, all
+ * {@link OperationMetrics} are registered as MBeans under {@value #JMX_DOMAIN}.
+ * <p/>
+ * Looking up {@link OperationMetrics} is not meant to happen on every invocation. Clients are expected to hold on to
+ * the instances returned and only record on them.
+ * 
+ * @author agent
+ */
+public class MetricsRegistry implements DisposableBean {
+
+	public static final String JMX_DOMAIN = "org.springframework.data.rest";
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetricsRegistry.class);
+
+	private final ConcurrentMap<String, OperationMetrics> metrics = new ConcurrentHashMap<String, OperationMetrics>();
+	private final List<ObjectName> registeredNames = new ArrayList<ObjectName>();
+
+	private MBeanServer mBeanServer;
+
+	/**
+	 * Configures the {@link MBeanServer} to register all current and future {@link OperationMetrics} with.
+	 * 
+	 * @param mBeanServer must not be {@literal null}.
+	 */
+	public synchronized void setMBeanServer(MBeanServer mBeanServer) {
+
+		Assert.notNull(mBeanServer, "MBeanServer must not be null!");
+		this.mBeanServer = mBeanServer;
+
+		for (OperationMetrics operationMetrics : metrics.values()) {
+			register(operationMetrics);
+		}
+	}
+
+	/**
+	 * Returns the {@link OperationMetrics} for the given group and name, creating them if necessary.
+	 * 
+	 * @param group must not be {@literal null} or empty.
+	 * @param name must not be {@literal null} or empty.
+	 * @return
+	 */
+	public OperationMetrics getMetrics(String group, String name) {
+
+		String key = group + "#" + name;
+		OperationMetrics operationMetrics = metrics.get(key);
+
+		if (operationMetrics != null) {
+			return operationMetrics;
+		}
+
+		operationMetrics = new OperationMetrics(group, name);
+		OperationMetrics existing = metrics.putIfAbsent(key, operationMetrics);
+
+		if (existing != null) {
+			return existing;
+		}
+
+		synchronized (this) {
+			if (mBeanServer != null) {
+				register(operationMetrics);
+			}
+		}
+
+		return operationMetrics;
+	}
+
+	/**
+	 * Returns the {@link OperationMetrics} for the given group and method, creating them if necessary. The metrics are
+	 * named after the method's name and parameter types, e.g. {@code findByLastname(String,Pageable)}, so that overloaded
+	 * methods are recorded separately.
+	 * 
+	 * @param group must not be {@literal null} or empty.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	public OperationMetrics getMetrics(String group, Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		for (int i = 0; i < parameterTypes.length; i++) {
+			builder.append(i == 0 ? "" : ",").append(parameterTypes[i].getSimpleName());
+		}
+
+		return getMetrics(group, builder.append(')').toString());
+	}
+
+	/**
+	 * Returns a snapshot of all metrics recorded, keyed by group and name.
+	 * 
+	 * @return
+	 */
+	public Map<String, Map<String, Map<String, Object>>> getSnapshot() {
+
+		Map<String, Map<String, Map<String, Object>>> result = new TreeMap<String, Map<String, Map<String, Object>>>();
+
+		for (OperationMetrics operationMetrics : metrics.values()) {
+
+			Map<String, Map<String, Object>> group = result.get(operationMetrics.getGroup());
+
+			if (group == null) {
+				group = new TreeMap<String, Map<String, Object>>();
+				result.put(operationMetrics.getGroup(), group);
+			}
+
+			group.put(operationMetrics.getName(), operationMetrics.toMap());
+		}
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public synchronized void destroy() {
+
+		for (ObjectName name : registeredNames) {
+			try {
+				mBeanServer.unregisterMBean(name);
+			} catch (JMException e) {
+				LOG.debug("Could not unregister metrics MBean {}!", name, e);
+			}
+		}
+
+		registeredNames.clear();
+	}
+
+	private void register(OperationMetrics operationMetrics) {
+
+		try {
+
+			ObjectName name = new ObjectName(String.format("%s:type=Metrics,group=%s,name=%s", JMX_DOMAIN,
+					ObjectName.quote(operationMetrics.getGroup()), ObjectName.quote(operationMetrics.getName())));
+
+			mBeanServer.registerMBean(operationMetrics, name);
+			registeredNames.add(name);
+
+		} catch (JMException e) {
+			LOG.warn("Could not register metrics MBean for {} {}!", operationMetrics.getGroup(), operationMetrics.getName(),
+					e);
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * Invocation count, error count and latency distribution of a single operation, e.g. a repository method or a
+ * controller method.
+ * 
+ * @author agent
+ */
+public class OperationMetrics implements OperationMetricsMBean {
+
+	private final String group;
+	private final String name;
+	private final LatencyHistogram histogram = new LatencyHistogram();
+	private final AtomicLong errors = new AtomicLong();
+
+	/**
+	 * Creates a new {@link OperationMetrics} for the given group and name.
+	 * 
+	 * @param group must not be {@literal null} or empty.
+	 * @param name must not be {@literal null} or empty.
+	 */
+	public OperationMetrics(String group, String name) {
+
+		Assert.hasText(group, "Group must not be null or empty!");
+		Assert.hasText(name, "Name must not be null or empty!");
+
+		this.group = group;
+		this.name = name;
+	}
+
+	/**
+	 * Records an invocation of the operation.
+	 * 
+	 * @param nanos the time the invocation took in nanoseconds.
+	 * @param failed whether the invocation failed.
+	 */
+	public void record(long nanos, boolean failed) {
+
+		histogram.record(nanos);
+
+		if (failed) {
+			errors.incrementAndGet();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getGroup()
+	 */
+	@Override
+	public String getGroup() {
+		return group;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getName()
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getCount()
+	 */
+	@Override
+	public long getCount() {
+		return histogram.getCount();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getErrorCount()
+	 */
+	@Override
+	public long getErrorCount() {
+		return errors.get();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getMeanMicros()
+	 */
+	@Override
+	public long getMeanMicros() {
+		return toMicros(histogram.getMean());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getP50Micros()
+	 */
+	@Override
+	public long getP50Micros() {
+		return toMicros(histogram.getValueAtPercentile(50));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getP99Micros()
+	 */
+	@Override
+	public long getP99Micros() {
+		return toMicros(histogram.getValueAtPercentile(99));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getP999Micros()
+	 */
+	@Override
+	public long getP999Micros() {
+		return toMicros(histogram.getValueAtPercentile(99.9));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.metrics.OperationMetricsMBean#getMaxMicros()
+	 */
+	@Override
+	public long getMaxMicros() {
+		return toMicros(histogram.getMax());
+	}
+
+	/**
+	 * Returns the current values as {@link Map}, e.g. to render them as JSON.
+	 * 
+	 * @return
+	 */
+	public Map<String, Object> toMap() {
+
+		Map<String, Object> result = new LinkedHashMap<String, Object>();
+		result.put("count", getCount());
+		result.put("errors", getErrorCount());
+		result.put("meanMicros", getMeanMicros());
+		result.put("p50Micros", getP50Micros());
+		result.put("p99Micros", getP99Micros());
+		result.put("p999Micros", getP999Micros());
+		result.put("maxMicros", getMaxMicros());
+
+		return result;
+	}
+
+	private static long toMicros(long nanos) {
+		return TimeUnit.NANOSECONDS.toMicros(nanos);
+	}
+}
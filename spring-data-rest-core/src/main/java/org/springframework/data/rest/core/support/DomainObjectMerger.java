@@ -15,6 +15,18 @@
  */
 package org.springframework.data.rest.core.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.Association;
@@ -24,14 +36,22 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 
 /**
+ * Merges incoming objects materialized from a request with domain objects loaded from the repository. The properties
+ * to consider are computed once per domain type and cached. All merge methods report whether they actually changed the
+ * target, so that callers can skip saving objects that didn't change.
+ * 
  * @author Jon Brisbin
+ * @author agent
  */
 public class DomainObjectMerger {
 
 	private final Repositories repositories;
 	private final ConversionService conversionService;
+	private final ConcurrentMap<Class<?>, MergePlan> plans = new ConcurrentHashMap<Class<?>, MergePlan>();
 
 	@Autowired
 	public DomainObjectMerger(Repositories repositories, ConversionService conversionService) {
@@ -39,34 +59,226 @@ public class DomainObjectMerger {
 		this.conversionService = conversionService;
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	public void merge(Object from, Object target) {
+	/**
+	 * Copies all non-{@literal null} property values of {@code from} to {@code target} if they differ from the target's
+	 * ones.
+	 * 
+	 * @param from the object to read the values from.
+	 * @param target the object to apply the values to.
+	 * @return whether any property of the target was changed.
+	 */
+	public boolean merge(Object from, Object target) {
+
 		if (null == from || null == target) {
-			return;
+			return false;
 		}
-		final BeanWrapper<?, Object> fromWrapper = BeanWrapper.create(from, conversionService);
-		final BeanWrapper<?, Object> targetWrapper = BeanWrapper.create(target, conversionService);
-
-		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(target.getClass());
-		entity.doWithProperties(new PropertyHandler() {
-			@Override
-			public void doWithPersistentProperty(PersistentProperty persistentProperty) {
-				Object fromVal = fromWrapper.getProperty(persistentProperty);
-				if (null != fromVal && !fromVal.equals(targetWrapper.getProperty(persistentProperty))) {
-					targetWrapper.setProperty(persistentProperty, fromVal);
-				}
+
+		BeanWrapper<?, Object> fromWrapper = BeanWrapper.create(from, conversionService);
+		BeanWrapper<?, Object> targetWrapper = BeanWrapper.create(target, conversionService);
+
+		boolean changed = false;
+
+		for (PersistentProperty<?> property : getMergePlan(target.getClass()).properties) {
+
+			Object fromVal = fromWrapper.getProperty(property);
+
+			if (null != fromVal && !fromVal.equals(targetWrapper.getProperty(property))) {
+				targetWrapper.setProperty(property, fromVal);
+				changed = true;
 			}
-		});
-		entity.doWithAssociations(new AssociationHandler() {
-			@Override
-			public void doWithAssociation(Association association) {
-				PersistentProperty persistentProperty = association.getInverse();
-				Object fromVal = fromWrapper.getProperty(persistentProperty);
-				if (null != fromVal && !fromVal.equals(targetWrapper.getProperty(persistentProperty))) {
-					targetWrapper.setProperty(persistentProperty, fromVal);
-				}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Applies the values of the properties with the given paths from {@code from} to {@code target}, including
+	 * {@literal null} values. A property listed with nested paths (e.g. {@code address.street}) is merged recursively
+	 * into the target's current value, unless there is no current value or the value is a {@link Collection},
+	 * {@link Map}, array or simple value, in which case it's replaced as a whole. Properties not listed are left
+	 * untouched, as is the identifier. Only properties whose value actually differs are set on the target.
+	 * 
+	 * @param from the object to read the values from.
+	 * @param target the object to apply the values to.
+	 * @param propertyPaths the paths of the properties to apply, must not be {@literal null}.
+	 * @return whether any property of the target was changed.
+	 */
+	public boolean merge(Object from, Object target, Collection<String> propertyPaths) {
+
+		Assert.notNull(propertyPaths, "Property paths must not be null!");
+
+		if (null == from || null == target) {
+			return false;
+		}
+
+		BeanWrapper<?, Object> fromWrapper = BeanWrapper.create(from, conversionService);
+		BeanWrapper<?, Object> targetWrapper = BeanWrapper.create(target, conversionService);
+		PersistentEntity<?, ?> entity = getMergePlan(target.getClass()).entity;
+
+		boolean changed = false;
+
+		for (Entry<String, List<String>> entry : groupByProperty(propertyPaths).entrySet()) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(entry.getKey());
+
+			if (property == null || property.isIdProperty()) {
+				continue;
+			}
+
+			Object fromVal = fromWrapper.getProperty(property);
+			Object targetVal = targetWrapper.getProperty(property);
+
+			if (isMergeable(fromVal, targetVal, entry.getValue())) {
+				changed |= mergeNested(fromVal, targetVal, entry.getValue());
+			} else if (!ObjectUtils.nullSafeEquals(fromVal, targetVal)) {
+				targetWrapper.setProperty(property, fromVal);
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Merges the properties with the given paths of a nested object. Nested objects that aren't entities themselves
+	 * (e.g. embeddables) are accessed through their bean properties.
+	 * 
+	 * @param from must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param propertyPaths must not be {@literal null}.
+	 * @return whether any property of the target was changed.
+	 */
+	private boolean mergeNested(Object from, Object target, Collection<String> propertyPaths) {
+
+		if (repositories.getPersistentEntity(target.getClass()) != null) {
+			return merge(from, target, propertyPaths);
+		}
+
+		PropertyAccessor fromAccessor = PropertyAccessorFactory.forBeanPropertyAccess(from);
+		PropertyAccessor targetAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
+
+		boolean changed = false;
+
+		for (Entry<String, List<String>> entry : groupByProperty(propertyPaths).entrySet()) {
+
+			String name = entry.getKey();
+
+			if (!fromAccessor.isReadableProperty(name) || !targetAccessor.isWritableProperty(name)
+					|| !targetAccessor.isReadableProperty(name)) {
+				continue;
+			}
+
+			Object fromVal = fromAccessor.getPropertyValue(name);
+			Object targetVal = targetAccessor.getPropertyValue(name);
+
+			if (isMergeable(fromVal, targetVal, entry.getValue())) {
+				changed |= mergeNested(fromVal, targetVal, entry.getValue());
+			} else if (!ObjectUtils.nullSafeEquals(fromVal, targetVal)) {
+				targetAccessor.setPropertyValue(name, fromVal);
+				changed = true;
+			}
+		}
+
+		return changed;
+	}
+
+	/**
+	 * Returns whether the given target value has to be merged with the given value recursively rather than being
+	 * replaced.
+	 * 
+	 * @param fromVal can be {@literal null}.
+	 * @param targetVal can be {@literal null}.
+	 * @param nestedPaths must not be {@literal null}.
+	 * @return
+	 */
+	private static boolean isMergeable(Object fromVal, Object targetVal, List<String> nestedPaths) {
+
+		if (nestedPaths.isEmpty() || fromVal == null || targetVal == null) {
+			return false;
+		}
+
+		Class<?> type = targetVal.getClass();
+
+		return !BeanUtils.isSimpleValueType(type) && !type.isArray() && !(targetVal instanceof Collection)
+				&& !(targetVal instanceof Map);
+	}
+
+	/**
+	 * Groups the given property paths by the name of the first property, collecting the remaining nested paths.
+	 * 
+	 * @param propertyPaths must not be {@literal null}.
+	 * @return
+	 */
+	private static Map<String, List<String>> groupByProperty(Collection<String> propertyPaths) {
+
+		Map<String, List<String>> result = new LinkedHashMap<String, List<String>>();
+
+		for (String path : propertyPaths) {
+
+			int separator = path.indexOf('.');
+			String name = separator == -1 ? path : path.substring(0, separator);
+			List<String> nestedPaths = result.get(name);
+
+			if (nestedPaths == null) {
+				nestedPaths = new ArrayList<String>();
+				result.put(name, nestedPaths);
+			}
+
+			if (separator != -1) {
+				nestedPaths.add(path.substring(separator + 1));
 			}
-		});
+		}
+
+		return result;
 	}
 
+	private MergePlan getMergePlan(Class<?> type) {
+
+		MergePlan plan = plans.get(type);
+
+		if (plan != null) {
+			return plan;
+		}
+
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(type);
+		Assert.notNull(entity, "No PersistentEntity found for " + type.getName() + "!");
+
+		plan = new MergePlan(entity);
+		MergePlan existing = plans.putIfAbsent(type, plan);
+
+		return existing == null ? plan : existing;
+	}
+
+	/**
+	 * The {@link PersistentEntity} of a domain type along with the properties and association properties to merge.
+	 * 
+	 * @author agent
+	 */
+	private static class MergePlan {
+
+		final PersistentEntity<?, ?> entity;
+		final List<PersistentProperty<?>> properties = new ArrayList<PersistentProperty<?>>();
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public MergePlan(PersistentEntity<?, ?> entity) {
+
+			this.entity = entity;
+
+			entity.doWithProperties(new PropertyHandler() {
+
+				@Override
+				public void doWithPersistentProperty(PersistentProperty persistentProperty) {
+					properties.add(persistentProperty);
+				}
+			});
+
+			entity.doWithAssociations(new AssociationHandler() {
+
+				@Override
+				public void doWithAssociation(Association association) {
+					properties.add(association.getInverse());
+				}
+			});
+		}
+	}
 }
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Key-value store for metadata that is expensive to obtain by scanning classes, persisted to a file to be reused on
+ * subsequent startups. The snapshot is keyed by a hash of the classpath, covering the names, sizes and modification
+ * dates of all jars and class directories on it. As soon as that hash changes, all entries are discarded and
+ * recomputed. The contents of class directories are not inspected, so changes to existing class files within them
+ * are not detected and the snapshot has to be deleted manually in that case. The snapshot is written once the
+ * application context has been refreshed if new entries were added.
+ * <p/>
+ * A snapshot created via {@link #disabled()} never returns any entries and does not write anything.
+ * 
+ * @author agent
+ */
+public class MetadataSnapshot implements ApplicationListener<ContextRefreshedEvent> {
+
+	static final String FILE_NAME = "spring-data-rest-metadata.properties";
+	static final String HASH_KEY = "classpath.hash";
+
+	private static final Logger LOG = LoggerFactory.getLogger(MetadataSnapshot.class);
+
+	private final File file;
+	private final String classpathHash;
+	private final Map<String, String> entries = new ConcurrentHashMap<String, String>();
+
+	private volatile boolean dirty = false;
+
+	private MetadataSnapshot(File file, String classpathHash) {
+		this.file = file;
+		this.classpathHash = classpathHash;
+	}
+
+	/**
+	 * Returns a {@link MetadataSnapshot} that does not keep any entries.
+	 * 
+	 * @return
+	 */
+	public static MetadataSnapshot disabled() {
+		return new MetadataSnapshot(null, null);
+	}
+
+	/**
+	 * Loads the {@link MetadataSnapshot} stored in the given directory. If there is none, it cannot be read or it was
+	 * created for a different classpath, an empty snapshot is returned that will be written to the given directory.
+	 * 
+	 * @param directory must not be {@literal null}.
+	 * @param classLoader the {@link ClassLoader} whose classpath to consider, must not be {@literal null}.
+	 * @return
+	 */
+	public static MetadataSnapshot load(File directory, ClassLoader classLoader) {
+
+		Assert.notNull(directory, "Directory must not be null!");
+		Assert.notNull(classLoader, "ClassLoader must not be null!");
+
+		MetadataSnapshot snapshot = new MetadataSnapshot(new File(directory, FILE_NAME), computeClasspathHash(classLoader));
+
+		if (!snapshot.file.isFile()) {
+			return snapshot;
+		}
+
+		Properties properties = new Properties();
+
+		try {
+
+			InputStream stream = new FileInputStream(snapshot.file);
+
+			try {
+				properties.load(stream);
+			} finally {
+				stream.close();
+			}
+
+		} catch (IOException e) {
+			LOG.warn("Could not read metadata snapshot from {}!", snapshot.file, e);
+			return snapshot;
+		}
+
+		if (!snapshot.classpathHash.equals(properties.getProperty(HASH_KEY))) {
+			LOG.debug("Discarding metadata snapshot {} as the classpath has changed.", snapshot.file);
+			return snapshot;
+		}
+
+		for (String key : properties.stringPropertyNames()) {
+			if (!HASH_KEY.equals(key)) {
+				snapshot.entries.put(key, properties.getProperty(key));
+			}
+		}
+
+		LOG.debug("Loaded {} entries from metadata snapshot {}.", snapshot.entries.size(), snapshot.file);
+
+		return snapshot;
+	}
+
+	/**
+	 * Returns the value stored for the given key.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @return the value or {@literal null} if the snapshot does not contain an entry for the given key.
+	 */
+	public String get(String key) {
+
+		Assert.notNull(key, "Key must not be null!");
+		return entries.get(key);
+	}
+
+	/**
+	 * Stores the given value for the given key.
+	 * 
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 */
+	public void put(String key, String value) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(value, "Value must not be null!");
+
+		if (file != null && !value.equals(entries.put(key, value))) {
+			dirty = true;
+		}
+	}
+
+	/**
+	 * Writes the snapshot to its file if entries were added since it was loaded.
+	 * 
+	 * @throws IOException
+	 */
+	public void save() throws IOException {
+
+		if (file == null || !dirty) {
+			return;
+		}
+
+		Properties properties = new Properties();
+		properties.putAll(entries);
+		properties.setProperty(HASH_KEY, classpathHash);
+
+		file.getParentFile().mkdirs();
+
+		// Write to a temporary file first so that concurrently starting instances never see a partial snapshot
+		File temp = File.createTempFile(FILE_NAME, ".tmp", file.getParentFile());
+		OutputStream stream = new FileOutputStream(temp);
+
+		try {
+			properties.store(stream, "Spring Data REST metadata snapshot");
+		} finally {
+			stream.close();
+		}
+
+		if (!temp.renameTo(file) && !(file.delete() && temp.renameTo(file))) {
+			temp.delete();
+			throw new IOException("Could not write metadata snapshot to " + file + "!");
+		}
+
+		dirty = false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		try {
+			save();
+		} catch (IOException e) {
+			LOG.warn("Could not write metadata snapshot!", e);
+		}
+	}
+
+	/**
+	 * Computes a hash over all entries of the classpath of the given {@link ClassLoader} and its parents. Every jar and
+	 * directory contributes its path, size and modification date without being opened.
+	 * 
+	 * @param classLoader must not be {@literal null}.
+	 * @return
+	 */
+	static String computeClasspathHash(ClassLoader classLoader) {
+
+		Set<String> entries = new LinkedHashSet<String>();
+
+		for (ClassLoader current = classLoader; current != null; current = current.getParent()) {
+			if (current instanceof URLClassLoader) {
+				for (URL url : ((URLClassLoader) current).getURLs()) {
+					entries.add(toPath(url));
+				}
+			}
+		}
+
+		for (String entry : StringUtils.tokenizeToStringArray(System.getProperty("java.class.path", ""),
+				File.pathSeparator)) {
+			entries.add(new File(entry).getAbsolutePath());
+		}
+
+		try {
+
+			MessageDigest digest = MessageDigest.getInstance("SHA-1");
+
+			for (String entry : entries) {
+
+				File file = new File(entry);
+				update(digest, entry);
+
+				if (file.exists()) {
+					update(digest, file.length() + ":" + file.lastModified());
+				}
+			}
+
+			StringBuilder builder = new StringBuilder();
+
+			for (byte b : digest.digest()) {
+				builder.append(String.format("%02x", b));
+			}
+
+			return builder.toString();
+
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toPath(URL url) {
+
+		if (!"file".equals(url.getProtocol())) {
+			return url.toString();
+		}
+
+		try {
+			return new File(url.toURI()).getAbsolutePath();
+		} catch (URISyntaxException e) {
+			return url.getPath();
+		}
+	}
+
+	private static void update(MessageDigest digest, String value) {
+
+		try {
+			digest.update(value.getBytes("UTF-8"));
+			digest.update((byte) 0);
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -8,6 +8,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.config.ResourceMapping;
 import org.springframework.data.rest.core.domain.jpa.ConfiguredPersonRepository;
+import org.springframework.data.rest.core.domain.jpa.Order;
+import org.springframework.data.rest.core.domain.jpa.Person;
 
 /**
  * Tests to check that {@link ResourceMapping}s are handled correctly.
@@ -29,4 +31,13 @@ public class RepositoryRestConfigurationIntegrationTests extends AbstractIntegra
 		assertThat(mapping.isExported(), is(false));
 	}
 
+	@Test
+	public void onlyReplacesOnUpdateForConfiguredDomainTypes() {
+
+		RepositoryRestConfiguration configuration = new RepositoryRestConfiguration().replaceOnUpdateFor(Person.class);
+
+		assertThat(configuration.isReplaceOnUpdateFor(Person.class), is(true));
+		assertThat(configuration.isReplaceOnUpdateFor(Order.class), is(false));
+		assertThat(config.isReplaceOnUpdateFor(Person.class), is(false));
+	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.core.domain.jpa;
 
+import javax.persistence.Embedded;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
@@ -29,6 +30,7 @@ public class Order {
 
 	private @Id Long id;
 	private @ManyToOne Person creator;
+	private @Embedded Address shippingAddress;
 
 	public Order(Person creator) {
 		this.creator = creator;
@@ -45,4 +47,12 @@ public class Order {
 	public Person getCreator() {
 		return creator;
 	}
+
+	public Address getShippingAddress() {
+		return shippingAddress;
+	}
+
+	public void setShippingAddress(Address shippingAddress) {
+		this.shippingAddress = shippingAddress;
+	}
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.rest.core.domain.jpa.AnnotatedPersonEventHandler;
+import org.springframework.data.rest.core.domain.jpa.Order;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.data.rest.core.support.MetadataSnapshot;
+
+/**
+ * Unit tests for {@link AnnotatedHandlerBeanPostProcessor}.
+ * 
+ * @author agent
+ */
+public class AnnotatedHandlerBeanPostProcessorUnitTests {
+
+	static final String KEY = "event-handlers." + AnnotatedPersonEventHandler.class.getName();
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	MetadataSnapshot snapshot;
+
+	@Before
+	public void setUp() {
+		snapshot = MetadataSnapshot.load(folder.getRoot(), getClass().getClassLoader());
+	}
+
+	@Test
+	public void recordsHandlerMethodsInSnapshot() {
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		postProcessor.setMetadataSnapshot(snapshot);
+		postProcessor.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+		postProcessor.postProcessAfterInitialization(new Object(), "object");
+
+		assertThat(snapshot.get(KEY), is(notNullValue()));
+		assertThat(snapshot.get("event-handlers." + Object.class.getName()), is(""));
+	}
+
+	@Test
+	public void registersHandlerMethodsFromSnapshot() {
+
+		AnnotatedHandlerBeanPostProcessor scanning = new AnnotatedHandlerBeanPostProcessor();
+		scanning.setMetadataSnapshot(snapshot);
+		scanning.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		postProcessor.setMetadataSnapshot(snapshot);
+		postProcessor.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+
+		assertThat(postProcessor.supportsEvent(BeforeSaveEvent.class, Person.class), is(true));
+		assertThat(postProcessor.supportsEvent(AfterLinkDeleteEvent.class, Person.class), is(true));
+		assertThat(postProcessor.supportsEvent(BeforeSaveEvent.class, Order.class), is(false));
+	}
+
+	@Test
+	public void doesNotScanTypesRecordedAsNoHandler() {
+
+		snapshot.put(KEY, "");
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		postProcessor.setMetadataSnapshot(snapshot);
+		postProcessor.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+
+		assertThat(postProcessor.supportsEvent(BeforeSaveEvent.class, Person.class), is(false));
+	}
+
+	@Test
+	public void fallsBackToScanningForUnresolvableSnapshotEntries() {
+
+		snapshot.put(KEY, "com.acme.Unknown|com.acme.Unknown|com.acme.Unknown|handle|");
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		postProcessor.setMetadataSnapshot(snapshot);
+		postProcessor.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+
+		assertThat(postProcessor.supportsEvent(BeforeSaveEvent.class, Person.class), is(true));
+	}
+}
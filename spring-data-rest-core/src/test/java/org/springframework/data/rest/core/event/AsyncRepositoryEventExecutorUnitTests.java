@@ -0,0 +1,148 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Unit tests for {@link AsyncRepositoryEventExecutor}.
+ *
+ * @author agent
+ */
+public class AsyncRepositoryEventExecutorUnitTests {
+
+	Repositories repositories = new Repositories(new DefaultListableBeanFactory());
+	AsyncRepositoryEventExecutor executor;
+
+	@After
+	public void tearDown() throws Exception {
+		executor.destroy();
+	}
+
+	@Test
+	public void executesTasksForTheSameEntityInOrder() throws Exception {
+
+		executor = new AsyncRepositoryEventExecutor(repositories, 4, 10, AsyncRepositoryEventExecutor.OverflowPolicy.BLOCK);
+
+		Person person = new Person("Dave", "Matthews");
+		final List<Integer> executed = Collections.synchronizedList(new ArrayList<Integer>());
+		final CountDownLatch latch = new CountDownLatch(100);
+
+		for (int i = 0; i < 100; i++) {
+
+			final int number = i;
+
+			executor.execute(person, new Runnable() {
+
+				@Override
+				public void run() {
+					executed.add(number);
+					latch.countDown();
+				}
+			});
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS), is(true));
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(executed.get(i), is(i));
+		}
+	}
+
+	@Test
+	public void reportsExceptionsToErrorHandler() throws Exception {
+
+		executor = new AsyncRepositoryEventExecutor(repositories);
+
+		CollectingErrorHandler errorHandler = new CollectingErrorHandler(1);
+		executor.setErrorHandler(errorHandler);
+
+		executor.execute(new Person(), new Runnable() {
+
+			@Override
+			public void run() {
+				throw new IllegalStateException();
+			}
+		});
+
+		assertThat(errorHandler.latch.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(errorHandler.errors.get(0), is(instanceOf(IllegalStateException.class)));
+	}
+
+	@Test
+	public void reportsDiscardedTasksToErrorHandler() throws Exception {
+
+		executor = new AsyncRepositoryEventExecutor(repositories, 1, 1, AsyncRepositoryEventExecutor.OverflowPolicy.DISCARD);
+
+		CollectingErrorHandler errorHandler = new CollectingErrorHandler(1);
+		executor.setErrorHandler(errorHandler);
+
+		final CountDownLatch blocker = new CountDownLatch(1);
+		Runnable blocking = new Runnable() {
+
+			@Override
+			public void run() {
+				try {
+					blocker.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		};
+
+		Person person = new Person();
+
+		executor.execute(person, blocking);
+		executor.execute(person, blocking);
+		executor.execute(person, blocking);
+
+		assertThat(errorHandler.latch.await(5, TimeUnit.SECONDS), is(true));
+		assertThat(errorHandler.errors.get(0), is(instanceOf(RejectedExecutionException.class)));
+
+		blocker.countDown();
+	}
+
+	static class CollectingErrorHandler implements ErrorHandler {
+
+		final List<Throwable> errors = Collections.synchronizedList(new ArrayList<Throwable>());
+		final CountDownLatch latch;
+
+		public CollectingErrorHandler(int expectedErrors) {
+			this.latch = new CountDownLatch(expectedErrors);
+		}
+
+		@Override
+		public void handleError(Throwable t) {
+			errors.add(t);
+			latch.countDown();
+		}
+	}
+}
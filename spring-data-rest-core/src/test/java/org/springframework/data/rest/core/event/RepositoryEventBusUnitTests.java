@@ -0,0 +1,223 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.domain.jpa.AnnotatedPersonEventHandler;
+import org.springframework.data.rest.core.domain.jpa.Order;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Unit tests for {@link RepositoryEventBus}.
+ *
+ * @author agent
+ */
+public class RepositoryEventBusUnitTests {
+
+	StaticApplicationContext context;
+	RepositoryEventBus eventBus;
+
+	@Before
+	public void setUp() {
+
+		context = new StaticApplicationContext();
+		context.registerSingleton("personListener", PersonListener.class);
+		context.registerSingleton("afterSaveListener", AfterSaveListener.class);
+		context.refresh();
+
+		eventBus = new RepositoryEventBus();
+		eventBus.setApplicationContext(context);
+	}
+
+	@Test
+	public void dispatchesEventsToListenersForDomainType() {
+
+		Person person = new Person("Dave", "Matthews");
+		eventBus.publishEvent(BeforeSaveEvent.class, person);
+
+		assertThat(context.getBean(PersonListener.class).saved, hasItem(person));
+	}
+
+	@Test
+	public void dispatchesEventsToPlainApplicationListenersByEventType() {
+
+		Order order = new Order(new Person("Dave", "Matthews"));
+		eventBus.publishEvent(AfterSaveEvent.class, order);
+
+		assertThat(context.getBean(AfterSaveListener.class).events, hasSize(1));
+		assertThat(context.getBean(PersonListener.class).saved, is(empty()));
+	}
+
+	@Test
+	public void reportsNoListenersForUnrelatedEventsAndDomainTypes() {
+
+		assertThat(eventBus.hasListeners(BeforeSaveEvent.class, Person.class), is(true));
+		assertThat(eventBus.hasListeners(BeforeSaveEvent.class, Order.class), is(false));
+		assertThat(eventBus.hasListeners(BeforeDeleteEvent.class, Order.class), is(false));
+		assertThat(eventBus.hasListeners(AfterSaveEvent.class, Order.class), is(true));
+	}
+
+	@Test
+	public void includesManuallyRegisteredListeners() {
+
+		AfterSaveListener listener = new AfterSaveListener();
+		eventBus.addListener(listener);
+
+		eventBus.publishEvent(AfterSaveEvent.class, new Person());
+
+		assertThat(listener.events, hasSize(1));
+	}
+
+	@Test
+	public void publishesThroughApplicationContextIfConfigured() {
+
+		eventBus.setBridgeToApplicationContext(true);
+		eventBus.publishEvent(AfterSaveEvent.class, new Person());
+
+		assertThat(context.getBean(AfterSaveListener.class).events, hasSize(1));
+	}
+
+	@Test
+	public void allowsEnablingBridgeBeforeApplicationContextIsSet() {
+
+		eventBus = new RepositoryEventBus();
+		eventBus.setBridgeToApplicationContext(true);
+		eventBus.setApplicationContext(context);
+		eventBus.afterPropertiesSet();
+
+		eventBus.publishEvent(AfterSaveEvent.class, new Person());
+
+		assertThat(context.getBean(AfterSaveListener.class).events, hasSize(1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsBridgeWithoutApplicationContext() {
+
+		eventBus = new RepositoryEventBus();
+		eventBus.setBridgeToApplicationContext(true);
+		eventBus.afterPropertiesSet();
+	}
+
+	@Test
+	public void deliversAfterEventsAsynchronouslyIfConfigured() throws Exception {
+
+		AsyncRepositoryEventExecutor executor = new AsyncRepositoryEventExecutor(new Repositories(context));
+		eventBus.setAsyncExecutor(executor);
+
+		final Thread caller = Thread.currentThread();
+		final List<Thread> threads = Collections.synchronizedList(new ArrayList<Thread>());
+
+		eventBus.addListener(new ApplicationListener<RepositoryEvent>() {
+
+			@Override
+			public void onApplicationEvent(RepositoryEvent event) {
+				threads.add(Thread.currentThread());
+			}
+		});
+
+		Person person = new Person();
+		eventBus.publishEvent(BeforeSaveEvent.class, person);
+		eventBus.publishEvent(AfterSaveEvent.class, person);
+		executor.destroy();
+
+		assertThat(threads, hasSize(2));
+		assertThat(threads.get(0), is(caller));
+		assertThat(threads.get(1), is(not(caller)));
+	}
+
+	@Test
+	public void invokesValidatorsAddedAfterFirstEvent() {
+
+		ValidatingRepositoryEventListener listener = new ValidatingRepositoryEventListener();
+		ReflectionTestUtils.setField(listener, "repositories", Mockito.mock(Repositories.class));
+		eventBus.addListener(listener);
+
+		Person person = new Person("Dave", "Matthews");
+		eventBus.publishEvent(BeforeCreateEvent.class, person);
+
+		RecordingValidator validator = new RecordingValidator();
+		listener.addValidator("beforeCreate", validator);
+
+		assertThat(eventBus.hasListeners(BeforeCreateEvent.class, Person.class), is(true));
+
+		eventBus.publishEvent(BeforeCreateEvent.class, person);
+
+		assertThat(validator.validated, hasSize(1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void invokesEventHandlersRegisteredAfterFirstEvent() {
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		eventBus.addListener(postProcessor);
+
+		eventBus.publishEvent(BeforeCreateEvent.class, new Person());
+
+		// AnnotatedPersonEventHandler throws an exception on every event
+		postProcessor.postProcessAfterInitialization(new AnnotatedPersonEventHandler(), "handler");
+		eventBus.publishEvent(BeforeCreateEvent.class, new Person());
+	}
+
+	static class PersonListener extends AbstractRepositoryEventListener<Person> {
+
+		List<Person> saved = new ArrayList<Person>();
+
+		@Override
+		protected void onBeforeSave(Person entity) {
+			saved.add(entity);
+		}
+	}
+
+	static class AfterSaveListener implements ApplicationListener<AfterSaveEvent> {
+
+		List<AfterSaveEvent> events = new ArrayList<AfterSaveEvent>();
+
+		@Override
+		public void onApplicationEvent(AfterSaveEvent event) {
+			events.add(event);
+		}
+	}
+
+	static class RecordingValidator implements Validator {
+
+		List<Object> validated = new ArrayList<Object>();
+
+		@Override
+		public boolean supports(Class<?> clazz) {
+			return Person.class.isAssignableFrom(clazz);
+		}
+
+		@Override
+		public void validate(Object target, Errors errors) {
+			validated.add(target);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+import org.springframework.data.rest.core.domain.jpa.Order;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.data.rest.core.domain.jpa.PersonNameValidator;
+
+/**
+ * Unit tests for {@link ValidatingRepositoryEventListener}.
+ *
+ * @author agent
+ */
+public class ValidatingRepositoryEventListenerUnitTests {
+
+	ValidatingRepositoryEventListener listener = new ValidatingRepositoryEventListener();
+
+	@Test
+	public void doesNotSupportAnyEventWithoutValidators() {
+
+		assertThat(listener.supportsEvent(BeforeSaveEvent.class, Person.class), is(false));
+		assertThat(listener.supportsEvent(BeforeCreateEvent.class, Person.class), is(false));
+	}
+
+	@Test
+	public void onlySupportsEventsAndDomainTypesWithMatchingValidators() {
+
+		listener.addValidator("beforeSave", new PersonNameValidator());
+
+		assertThat(listener.supportsEvent(BeforeSaveEvent.class, Person.class), is(true));
+		assertThat(listener.supportsEvent(BeforeSaveEvent.class, Order.class), is(false));
+		assertThat(listener.supportsEvent(AfterSaveEvent.class, Person.class), is(false));
+		assertThat(listener.supportsEvent(BeforeLinkDeleteEvent.class, Person.class), is(false));
+	}
+
+	@Test
+	public void doesNotValidateIfNoValidatorSupportsTheDomainType() {
+
+		listener.addValidator("beforeSave", new PersonNameValidator());
+		listener.onApplicationEvent(new BeforeSaveEvent(new Order(new Person())));
+	}
+}
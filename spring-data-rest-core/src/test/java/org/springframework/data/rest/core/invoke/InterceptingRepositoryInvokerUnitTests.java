@@ -0,0 +1,119 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.core.domain.jpa.Person;
+
+/**
+ * Unit tests for {@link InterceptingRepositoryInvoker}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class InterceptingRepositoryInvokerUnitTests {
+
+	@Mock RepositoryInvoker delegate;
+
+	List<String> calls;
+
+	@Before
+	public void setUp() {
+		calls = new ArrayList<String>();
+	}
+
+	@Test
+	public void appliesInterceptorsInOrderBeforeInvokingDelegate() {
+
+		Person person = new Person();
+		when(delegate.invokeFindOne(1L)).thenReturn(person);
+
+		RepositoryInvoker invoker = new InterceptingRepositoryInvoker(delegate, Person.class, Arrays.asList(
+				new RecordingInterceptor("first"), new RecordingInterceptor("second")));
+
+		assertThat(invoker.invokeFindOne(1L), is((Object) person));
+		assertThat(calls, contains("first:FIND_ONE:Person", "second:FIND_ONE:Person"));
+	}
+
+	@Test
+	public void allowsInterceptorToShortCircuitInvocation() {
+
+		RepositoryInvokerInterceptor interceptor = new RepositoryInvokerInterceptor() {
+
+			@Override
+			public Object invoke(RepositoryInvocation invocation) {
+				return Collections.emptyList();
+			}
+		};
+
+		RepositoryInvoker invoker = new InterceptingRepositoryInvoker(delegate, Person.class,
+				Collections.singletonList(interceptor));
+
+		assertThat(invoker.invokeFindAll(new Sort("lastname")), is(emptyIterable()));
+		verifyZeroInteractions(delegate);
+	}
+
+	@Test
+	public void invokesDelegateWithModifiedArguments() {
+
+		RepositoryInvokerInterceptor interceptor = new RepositoryInvokerInterceptor() {
+
+			@Override
+			public Object invoke(RepositoryInvocation invocation) {
+				invocation.getArguments()[0] = new PageRequest(0, 5);
+				return invocation.proceed();
+			}
+		};
+
+		RepositoryInvoker invoker = new InterceptingRepositoryInvoker(delegate, Person.class,
+				Collections.singletonList(interceptor));
+
+		invoker.invokeFindAll((Pageable) null);
+		verify(delegate).invokeFindAll(new PageRequest(0, 5));
+	}
+
+	class RecordingInterceptor implements RepositoryInvokerInterceptor {
+
+		final String name;
+
+		RecordingInterceptor(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Object invoke(RepositoryInvocation invocation) {
+
+			calls.add(name + ":" + invocation.getOperation() + ":" + invocation.getDomainType().getSimpleName());
+			return invocation.proceed();
+		}
+	}
+}
@@ -119,4 +119,14 @@ public class ReflectionRepositoryInvokerIntegrationTests extends AbstractIntegra
 		Page<?> page = (Page<?>) result;
 		assertThat(page.getNumberOfElements(), is(1));
 	}
+
+	@Test
+	public void deletesGivenEntityWithoutLookingItUpAgain() {
+
+		Person person = repository.save(new Person("Dave", "Matthews"));
+
+		invoker.invokeDelete(person.getId(), person);
+
+		assertThat(repository.findOne(person.getId()), is(nullValue()));
+	}
 }
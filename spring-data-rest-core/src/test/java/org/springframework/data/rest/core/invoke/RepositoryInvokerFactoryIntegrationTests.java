@@ -0,0 +1,97 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.invoke;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.AbstractIntegrationTests;
+import org.springframework.data.rest.core.domain.jpa.Person;
+
+/**
+ * Integration tests for {@link RepositoryInvokerFactory}.
+ * 
+ * @author agent
+ */
+public class RepositoryInvokerFactoryIntegrationTests extends AbstractIntegrationTests {
+
+	@Autowired Repositories repositories;
+	@Autowired ConversionService conversionService;
+
+	RepositoryInvokerFactory factory;
+	List<String> calls;
+
+	@Before
+	public void setUp() {
+
+		factory = new RepositoryInvokerFactory(repositories, conversionService);
+		calls = new ArrayList<String>();
+	}
+
+	@Test
+	public void returnsPlainInvokerIfNoInterceptorsAreRegistered() {
+
+		factory.setInterceptors(Collections.<RepositoryInvokerInterceptor> emptyList());
+		assertThat(factory.getInvokerFor(Person.class), is(not(instanceOf(InterceptingRepositoryInvoker.class))));
+	}
+
+	@Test
+	public void appliesInterceptorsSortedByOrder() {
+
+		factory.setInterceptors(Arrays.asList(new OrderedInterceptor("second", 2), new OrderedInterceptor("first", 1)));
+
+		RepositoryInvoker invoker = factory.getInvokerFor(Person.class);
+		assertThat(invoker, is(instanceOf(InterceptingRepositoryInvoker.class)));
+
+		invoker.invokeFindAll(new Sort("lastName"));
+		assertThat(calls, contains("first", "second"));
+	}
+
+	class OrderedInterceptor implements RepositoryInvokerInterceptor, Ordered {
+
+		final String name;
+		final int order;
+
+		OrderedInterceptor(String name, int order) {
+			this.name = name;
+			this.order = order;
+		}
+
+		@Override
+		public Object invoke(RepositoryInvocation invocation) {
+
+			calls.add(name);
+			return invocation.proceed();
+		}
+
+		@Override
+		public int getOrder() {
+			return order;
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ * 
+ * @author agent
+ */
+public class LatencyHistogramUnitTests {
+
+	LatencyHistogram histogram = new LatencyHistogram();
+
+	@Test
+	public void reportsZeroIfNothingWasRecorded() {
+
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.getMean(), is(0L));
+		assertThat(histogram.getValueAtPercentile(99), is(0L));
+	}
+
+	@Test
+	public void bucketsCoverAllValuesWithoutGaps() {
+
+		for (long value = 0; value < 100000; value++) {
+
+			int index = LatencyHistogram.indexFor(value);
+
+			assertThat(LatencyHistogram.highestValueIn(index), is(greaterThanOrEqualTo(value)));
+			assertThat(index == 0 || LatencyHistogram.highestValueIn(index - 1) < value, is(true));
+		}
+	}
+
+	@Test
+	public void calculatesPercentilesWithinBucketPrecision() {
+
+		for (long i = 1; i <= 1000; i++) {
+			histogram.record(i * 1000);
+		}
+
+		assertThat(histogram.getCount(), is(1000L));
+		assertThat(histogram.getMean(), is(500500L));
+		assertThat(histogram.getMax(), is(1000000L));
+		assertThat((double) histogram.getValueAtPercentile(50), is(closeTo(500000, 500000 * 0.04)));
+		assertThat((double) histogram.getValueAtPercentile(99), is(closeTo(990000, 990000 * 0.04)));
+		assertThat(histogram.getValueAtPercentile(100), is(1000000L));
+	}
+
+	@Test
+	public void clampsOutOfRangeValues() {
+
+		histogram.record(-1);
+		histogram.record(Long.MAX_VALUE);
+
+		assertThat(histogram.getCount(), is(2L));
+		assertThat(histogram.getMax(), is(LatencyHistogram.MAX_VALUE));
+		assertThat(histogram.getValueAtPercentile(50), is(0L));
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.rest.core.domain.jpa.Person;
+import org.springframework.data.rest.core.invoke.RepositoryInvocation;
+import org.springframework.data.rest.core.invoke.RepositoryOperation;
+
+/**
+ * Unit tests for {@link MetricsRecordingRepositoryInvokerInterceptor}.
+ * 
+ * @author agent
+ */
+public class MetricsRecordingRepositoryInvokerInterceptorUnitTests {
+
+	MetricsRegistry registry = new MetricsRegistry();
+	MetricsRecordingRepositoryInvokerInterceptor interceptor = new MetricsRecordingRepositoryInvokerInterceptor(registry);
+
+	@After
+	public void tearDown() {
+		registry.destroy();
+	}
+
+	@Test
+	public void recordsOverloadedQueryMethodsSeparately() throws Exception {
+
+		interceptor.invoke(queryMethodInvocation(Sample.class.getMethod("findByLastname", String.class)));
+		interceptor.invoke(queryMethodInvocation(Sample.class.getMethod("findByLastname", String.class, Pageable.class)));
+		interceptor.invoke(queryMethodInvocation(Sample.class.getMethod("findByLastname", String.class, Pageable.class)));
+
+		Map<String, Map<String, Object>> metrics = registry.getSnapshot().get(Person.class.getName());
+
+		assertThat(metrics.get("findByLastname(String)").get("count"), is((Object) 1L));
+		assertThat(metrics.get("findByLastname(String,Pageable)").get("count"), is((Object) 2L));
+	}
+
+	@Test
+	public void namesOperationMetricsAfterOperation() {
+
+		RepositoryInvocation invocation = mock(RepositoryInvocation.class);
+		when(invocation.getOperation()).thenReturn(RepositoryOperation.FIND_ONE);
+		doReturn(Person.class).when(invocation).getDomainType();
+
+		interceptor.invoke(invocation);
+
+		assertThat(registry.getSnapshot().get(Person.class.getName()), hasKey("FIND_ONE"));
+	}
+
+	private static RepositoryInvocation queryMethodInvocation(Method method) {
+
+		RepositoryInvocation invocation = mock(RepositoryInvocation.class);
+		when(invocation.getOperation()).thenReturn(RepositoryOperation.QUERY_METHOD);
+		when(invocation.getQueryMethod()).thenReturn(method);
+		doReturn(Person.class).when(invocation).getDomainType();
+
+		return invocation;
+	}
+
+	interface Sample {
+
+		Object findByLastname(String lastname);
+
+		Object findByLastname(String lastname, Pageable pageable);
+	}
+}
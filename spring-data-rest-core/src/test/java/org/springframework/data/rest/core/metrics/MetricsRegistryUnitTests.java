@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.metrics;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link MetricsRegistry}.
+ * 
+ * @author agent
+ */
+public class MetricsRegistryUnitTests {
+
+	MetricsRegistry registry = new MetricsRegistry();
+	MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+	@After
+	public void tearDown() {
+		registry.destroy();
+	}
+
+	@Test
+	public void returnsSameMetricsForSameGroupAndName() {
+
+		OperationMetrics metrics = registry.getMetrics("Person", "FIND_ONE");
+
+		assertThat(registry.getMetrics("Person", "FIND_ONE"), is(sameInstance(metrics)));
+		assertThat(registry.getMetrics("Person", "SAVE"), is(not(sameInstance(metrics))));
+	}
+
+	@Test
+	public void namesMethodMetricsAfterMethodSignature() throws Exception {
+
+		OperationMetrics metrics = registry.getMetrics("Person", String.class.getMethod("indexOf", String.class));
+
+		assertThat(metrics.getName(), is("indexOf(String)"));
+		assertThat(registry.getMetrics("Person", String.class.getMethod("indexOf", String.class, int.class)),
+				is(not(sameInstance(metrics))));
+	}
+
+	@Test
+	public void exposesSnapshotByGroupAndName() {
+
+		registry.getMetrics("Person", "FIND_ONE").record(2000, false);
+		registry.getMetrics("Person", "FIND_ONE").record(4000, true);
+
+		Map<String, Map<String, Map<String, Object>>> snapshot = registry.getSnapshot();
+		Map<String, Object> values = snapshot.get("Person").get("FIND_ONE");
+
+		assertThat(values.get("count"), is((Object) 2L));
+		assertThat(values.get("errors"), is((Object) 1L));
+		assertThat(values.get("maxMicros"), is((Object) 4L));
+	}
+
+	@Test
+	public void registersExistingAndNewMetricsWithMBeanServer() throws Exception {
+
+		registry.getMetrics("Person", "FIND_ONE").record(1000, false);
+		registry.setMBeanServer(server);
+		registry.getMetrics("Person", "SAVE");
+
+		ObjectName findOne = new ObjectName("org.springframework.data.rest:type=Metrics,group=\"Person\",name=\"FIND_ONE\"");
+
+		assertThat(server.isRegistered(findOne), is(true));
+		assertThat(server.getAttribute(findOne, "Count"), is((Object) 1L));
+		assertThat(server.queryNames(new ObjectName(MetricsRegistry.JMX_DOMAIN + ":*"), null), hasSize(2));
+
+		registry.destroy();
+
+		assertThat(server.isRegistered(findOne), is(false));
+	}
+}
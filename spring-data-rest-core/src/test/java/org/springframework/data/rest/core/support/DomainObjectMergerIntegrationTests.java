@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.AbstractIntegrationTests;
+import org.springframework.data.rest.core.domain.jpa.Address;
+import org.springframework.data.rest.core.domain.jpa.Order;
+import org.springframework.data.rest.core.domain.jpa.Person;
+
+/**
+ * Integration tests for {@link DomainObjectMerger}.
+ * 
+ * @author agent
+ */
+public class DomainObjectMergerIntegrationTests extends AbstractIntegrationTests {
+
+	@Autowired Repositories repositories;
+	@Autowired ConversionService conversionService;
+
+	DomainObjectMerger merger;
+
+	@Before
+	public void setUp() {
+		merger = new DomainObjectMerger(repositories, conversionService);
+	}
+
+	@Test
+	public void mergesChangedPropertiesAndReportsChange() {
+
+		Person target = new Person("Dave", "Matthews");
+
+		assertThat(merger.merge(new Person("Carter", null), target), is(true));
+		assertThat(target.getFirstName(), is("Carter"));
+		assertThat(target.getLastName(), is("Matthews"));
+	}
+
+	@Test
+	public void reportsNoChangeForEqualRepresentation() {
+
+		Person target = new Person("Dave", "Matthews");
+
+		assertThat(merger.merge(new Person("Dave", "Matthews"), target), is(false));
+		assertThat(merger.merge(new Person(null, null), target), is(false));
+	}
+
+	@Test
+	public void appliesListedPropertiesIncludingNulls() {
+
+		Person target = new Person("Dave", "Matthews");
+
+		assertThat(merger.merge(new Person(null, "Beauford"), target, Arrays.asList("firstName", "unknown")), is(true));
+		assertThat(target.getFirstName(), is(nullValue()));
+		assertThat(target.getLastName(), is("Matthews"));
+
+		assertThat(merger.merge(new Person(null, "Beauford"), target, Arrays.asList("firstName")), is(false));
+	}
+
+	@Test
+	public void mergesNestedObjectsRecursively() {
+
+		Person creator = new Person("Dave", "Matthews");
+		Address address = new Address("Main Street", "Charlottesville");
+		Order target = new Order(creator);
+		target.setShippingAddress(address);
+
+		Order from = new Order(new Person(null, "Beauford"));
+		from.setShippingAddress(new Address(null, "Seattle"));
+
+		assertThat(merger.merge(from, target, Arrays.asList("creator.lastName", "shippingAddress.city")), is(true));
+
+		assertThat(target.getCreator(), is(sameInstance(creator)));
+		assertThat(creator.getFirstName(), is("Dave"));
+		assertThat(creator.getLastName(), is("Beauford"));
+
+		assertThat(target.getShippingAddress(), is(sameInstance(address)));
+		assertThat(address.getStreet(), is("Main Street"));
+		assertThat(address.getCity(), is("Seattle"));
+	}
+
+	@Test
+	public void appliesNestedObjectAsWholeIfThereIsNoCurrentValue() {
+
+		Order target = new Order(new Person("Dave", "Matthews"));
+		Address address = new Address(null, "Seattle");
+
+		Order from = new Order(null);
+		from.setShippingAddress(address);
+
+		assertThat(merger.merge(from, target, Arrays.asList("shippingAddress.city")), is(true));
+		assertThat(target.getShippingAddress(), is(sameInstance(address)));
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests for {@link MetadataSnapshot}.
+ * 
+ * @author agent
+ */
+public class MetadataSnapshotUnitTests {
+
+	@Rule public TemporaryFolder folder = new TemporaryFolder();
+
+	ClassLoader classLoader = getClass().getClassLoader();
+
+	@Test
+	public void disabledSnapshotDoesNotKeepEntries() {
+
+		MetadataSnapshot snapshot = MetadataSnapshot.disabled();
+		snapshot.put("key", "value");
+
+		assertThat(snapshot.get("key"), is(nullValue()));
+	}
+
+	@Test
+	public void readsEntriesWrittenBefore() throws Exception {
+
+		MetadataSnapshot snapshot = MetadataSnapshot.load(folder.getRoot(), classLoader);
+		snapshot.put("key", "value");
+		snapshot.save();
+
+		assertThat(new File(folder.getRoot(), MetadataSnapshot.FILE_NAME).isFile(), is(true));
+		assertThat(MetadataSnapshot.load(folder.getRoot(), classLoader).get("key"), is("value"));
+	}
+
+	@Test
+	public void discardsEntriesIfClasspathChanged() throws Exception {
+
+		Properties properties = new Properties();
+		properties.setProperty(MetadataSnapshot.HASH_KEY, "outdated");
+		properties.setProperty("key", "value");
+
+		OutputStream stream = new FileOutputStream(new File(folder.getRoot(), MetadataSnapshot.FILE_NAME));
+
+		try {
+			properties.store(stream, null);
+		} finally {
+			stream.close();
+		}
+
+		assertThat(MetadataSnapshot.load(folder.getRoot(), classLoader).get("key"), is(nullValue()));
+	}
+
+	@Test
+	public void computesStableClasspathHash() {
+		assertThat(MetadataSnapshot.computeClasspathHash(classLoader),
+				is(MetadataSnapshot.computeClasspathHash(classLoader)));
+	}
+
+	@Test
+	public void classpathHashChangesIfJarChanges() throws Exception {
+
+		File jar = folder.newFile("sample.jar");
+		ClassLoader jarClassLoader = new URLClassLoader(new URL[] { jar.toURI().toURL() }, null);
+
+		String hash = MetadataSnapshot.computeClasspathHash(jarClassLoader);
+
+		OutputStream stream = new FileOutputStream(jar);
+
+		try {
+			stream.write(new byte[] { 1, 2, 3 });
+		} finally {
+			stream.close();
+		}
+
+		assertThat(MetadataSnapshot.computeClasspathHash(jarClassLoader), is(not(hash)));
+	}
+}
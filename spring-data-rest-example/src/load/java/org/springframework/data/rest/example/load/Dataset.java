@@ -0,0 +1,138 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.data.rest.example.load.LoadTestClient.Request;
+import org.springframework.data.rest.example.load.LoadTestClient.Response;
+import org.springframework.util.Assert;
+
+/**
+ * The people the load test scenarios operate on. A fixed set of people sharing a common father is created through the
+ * API upfront and never modified. People created by the scenarios are kept separately, so that updates and deletes
+ * don't change the data the read scenarios see.
+ *
+ * @author agent
+ */
+public class Dataset {
+
+	static final int FIRST_NAMES = 50;
+
+	private final List<String> personIds;
+	private final Queue<String> disposableIds = new ConcurrentLinkedQueue<String>();
+
+	private Dataset(List<String> personIds) {
+		this.personIds = Collections.unmodifiableList(personIds);
+	}
+
+	/**
+	 * Creates the given number of people through the API of the application the given {@link LoadTestClient} points to.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param size the number of people to create, must be greater than 0.
+	 * @return
+	 * @throws IOException
+	 */
+	public static Dataset seed(LoadTestClient client, int size) throws IOException {
+
+		Assert.notNull(client, "LoadTestClient must not be null!");
+		Assert.isTrue(size > 0, "Size must be greater than 0!");
+
+		String fatherId = create(client, "Father", "Load");
+		List<String> ids = new ArrayList<String>(size);
+
+		for (int i = 0; i < size; i++) {
+
+			String id = create(client, firstName(i), "Load-" + i);
+			expectSuccess(client.execute(Request.putUriList("/people/" + id + "/father",
+					client.uriFor("/people/" + fatherId))));
+
+			ids.add(id);
+		}
+
+		return new Dataset(ids);
+	}
+
+	/**
+	 * Returns the number of seeded people.
+	 *
+	 * @return
+	 */
+	public int getSize() {
+		return personIds.size();
+	}
+
+	/**
+	 * Returns the id of a random seeded person.
+	 *
+	 * @param random must not be {@literal null}.
+	 * @return
+	 */
+	public String randomPersonId(Random random) {
+		return personIds.get(random.nextInt(personIds.size()));
+	}
+
+	/**
+	 * Registers the id of a person created during the load test.
+	 *
+	 * @param id must not be {@literal null}.
+	 */
+	public void addDisposable(String id) {
+
+		Assert.notNull(id, "Id must not be null!");
+		disposableIds.add(id);
+	}
+
+	/**
+	 * Removes and returns the id of a person created during the load test.
+	 *
+	 * @return the id or {@literal null} if none is available.
+	 */
+	public String pollDisposable() {
+		return disposableIds.poll();
+	}
+
+	static String firstName(int index) {
+		return "First-" + (index % FIRST_NAMES);
+	}
+
+	static Request createRequest(String firstName, String lastName) {
+		return Request.post("/people", String.format("{ \"firstName\" : \"%s\", \"lastName\" : \"%s\" }", firstName,
+				lastName));
+	}
+
+	static String create(LoadTestClient client, String firstName, String lastName) throws IOException {
+
+		Response response = expectSuccess(client.execute(createRequest(firstName, lastName)));
+		String id = response.getLocationId();
+
+		Assert.state(id != null, "Creating a person did not return a Location header!");
+		return id;
+	}
+
+	private static Response expectSuccess(Response response) {
+
+		Assert.state(response.isSuccessful(), "Unexpected response status " + response.getStatus() + "!");
+		return response;
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Minimal HTTP client issuing {@link Request}s against the application under test. Uses {@link HttpURLConnection} to
+ * not add any dependencies and relies on its connection keep-alive. Response bodies are read completely but discarded.
+ *
+ * @author agent
+ */
+public class LoadTestClient {
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final URI baseUri;
+
+	/**
+	 * Creates a new {@link LoadTestClient} for the application at the given base {@link URI}.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 */
+	public LoadTestClient(URI baseUri) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		this.baseUri = baseUri;
+	}
+
+	/**
+	 * Returns the absolute URI for the given path.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return
+	 */
+	public String uriFor(String path) {
+		return baseUri.toString() + path;
+	}
+
+	/**
+	 * Executes the given {@link Request}.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	public Response execute(Request request) throws IOException {
+
+		Assert.notNull(request, "Request must not be null!");
+
+		HttpURLConnection connection = (HttpURLConnection) new URL(uriFor(request.path)).openConnection();
+		connection.setRequestMethod(request.method);
+		connection.setRequestProperty("Accept", "application/json");
+
+		if (request.body != null) {
+
+			byte[] body = request.body.getBytes(UTF_8);
+
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", request.contentType);
+			connection.setFixedLengthStreamingMode(body.length);
+
+			OutputStream stream = connection.getOutputStream();
+
+			try {
+				stream.write(body);
+			} finally {
+				stream.close();
+			}
+		}
+
+		int status = connection.getResponseCode();
+		drain(status < 400 ? connection.getInputStream() : connection.getErrorStream());
+
+		return new Response(status, connection.getHeaderField("Location"));
+	}
+
+	/**
+	 * Reads the given stream completely so that the connection can be reused.
+	 *
+	 * @param stream can be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void drain(InputStream stream) throws IOException {
+
+		if (stream == null) {
+			return;
+		}
+
+		try {
+			StreamUtils.copy(stream, new NullOutputStream());
+		} finally {
+			stream.close();
+		}
+	}
+
+	/**
+	 * A request to issue against the application.
+	 *
+	 * @author agent
+	 */
+	public static class Request {
+
+		private final String method;
+		private final String path;
+		private final String contentType;
+		private final String body;
+
+		private Request(String method, String path, String contentType, String body) {
+
+			Assert.hasText(method, "Method must not be null or empty!");
+			Assert.hasText(path, "Path must not be null or empty!");
+
+			this.method = method;
+			this.path = path;
+			this.contentType = contentType;
+			this.body = body;
+		}
+
+		public static Request get(String path) {
+			return new Request("GET", path, null, null);
+		}
+
+		public static Request delete(String path) {
+			return new Request("DELETE", path, null, null);
+		}
+
+		public static Request post(String path, String json) {
+			return new Request("POST", path, "application/json", json);
+		}
+
+		public static Request put(String path, String json) {
+			return new Request("PUT", path, "application/json", json);
+		}
+
+		public static Request putUriList(String path, String... uris) {
+			return new Request("PUT", path, "text/uri-list", StringUtils.arrayToDelimitedString(uris, "\n"));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return method + " " + path;
+		}
+	}
+
+	/**
+	 * The status and location of a response.
+	 *
+	 * @author agent
+	 */
+	public static class Response {
+
+		private final int status;
+		private final String location;
+
+		private Response(int status, String location) {
+			this.status = status;
+			this.location = location;
+		}
+
+		/**
+		 * Returns whether the response has a 2xx status code.
+		 *
+		 * @return
+		 */
+		public boolean isSuccessful() {
+			return status >= 200 && status < 300;
+		}
+
+		public int getStatus() {
+			return status;
+		}
+
+		/**
+		 * Returns the last path segment of the {@literal Location} header, i.e. the id of a created resource.
+		 *
+		 * @return the id or {@literal null} if the response does not contain a {@literal Location} header.
+		 */
+		public String getLocationId() {
+			return location == null ? null : location.substring(location.lastIndexOf('/') + 1);
+		}
+	}
+
+	private static class NullOutputStream extends OutputStream {
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(int)
+		 */
+		@Override
+		public void write(int b) {}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) {}
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.rest.core.metrics.LatencyHistogram;
+import org.springframework.data.rest.example.load.LoadTestClient.Request;
+import org.springframework.data.rest.example.load.LoadTestClient.Response;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Runs the {@link Scenario}s against the example application served by an embedded Jetty and writes throughput and
+ * latency percentiles to a JSON file to compare them between revisions. Arguments are given as {@code key=value}
+ * pairs:
+ * <ul>
+ * <li>{@code scenarios} - comma separated names of the scenarios to run, defaults to all of them.</li>
+ * <li>{@code threads} - the number of concurrent clients, defaults to 8.</li>
+ * <li>{@code warmup} - seconds to run each scenario before measuring, defaults to 5.</li>
+ * <li>{@code duration} - seconds to measure each scenario, defaults to 15.</li>
+ * <li>{@code size} - the number of people to create upfront, defaults to 500.</li>
+ * <li>{@code seed} - the seed for the random choices of the clients, defaults to 42.</li>
+ * <li>{@code output} - the file to write the results to, defaults to {@code build/reports/load/results.json}.</li>
+ * </ul>
+ * Options starting with {@code example.} are handed to the application as system properties, e.g.
+ * {@code example.dataset.people=1000000} to run against a large generated dataset.
+ *
+ * @author agent
+ */
+public class LoadTestRunner {
+
+	private static final Logger LOG = LoggerFactory.getLogger(LoadTestRunner.class);
+
+	private final LoadTestClient client;
+	private final Dataset dataset;
+	private final int threads;
+	private final long seed;
+
+	/**
+	 * Creates a new {@link LoadTestRunner}.
+	 *
+	 * @param client must not be {@literal null}.
+	 * @param dataset must not be {@literal null}.
+	 * @param threads the number of concurrent clients, must be greater than 0.
+	 * @param seed the seed for the random choices of the clients.
+	 */
+	public LoadTestRunner(LoadTestClient client, Dataset dataset, int threads, long seed) {
+
+		Assert.notNull(client, "LoadTestClient must not be null!");
+		Assert.notNull(dataset, "Dataset must not be null!");
+		Assert.isTrue(threads > 0, "Number of threads must be greater than 0!");
+
+		this.client = client;
+		this.dataset = dataset;
+		this.threads = threads;
+		this.seed = seed;
+	}
+
+	public static void main(String[] args) throws Exception {
+
+		Map<String, String> options = parse(args);
+
+		int threads = Integer.parseInt(option(options, "threads", "8"));
+		int warmup = Integer.parseInt(option(options, "warmup", "5"));
+		int duration = Integer.parseInt(option(options, "duration", "15"));
+		int size = Integer.parseInt(option(options, "size", "500"));
+		long seed = Long.parseLong(option(options, "seed", "42"));
+		File output = new File(option(options, "output", "build/reports/load/results.json"));
+		List<Scenario> scenarios = scenarios(option(options, "scenarios", null));
+
+		for (Entry<String, String> option : options.entrySet()) {
+			if (option.getKey().startsWith("example.")) {
+				System.setProperty(option.getKey(), option.getValue());
+			}
+		}
+
+		// Allow keep-alive connections for all clients
+		System.setProperty("http.maxConnections", String.valueOf(threads));
+
+		LoadTestServer server = new LoadTestServer(new LoadTestWebInitializer(), threads * 2);
+
+		try {
+
+			LoadTestClient client = new LoadTestClient(server.start());
+			LoadTestRunner runner = new LoadTestRunner(client, Dataset.seed(client, size), threads, seed);
+			List<Map<String, Object>> results = new ArrayList<Map<String, Object>>();
+
+			for (Scenario scenario : scenarios) {
+
+				runner.run(scenario, warmup);
+				ScenarioResult result = runner.run(scenario, duration);
+
+				LOG.info(String.format("%-12s %10.1f req/s  p50 %7dus  p99 %7dus  p999 %7dus  errors %d", scenario,
+						result.getThroughput(), result.getLatency(50), result.getLatency(99), result.getLatency(99.9),
+						result.getErrors()));
+
+				results.add(result.toMap());
+			}
+
+			Map<String, Object> report = new LinkedHashMap<String, Object>();
+			report.put("timestamp", new Date());
+			report.put("threads", threads);
+			report.put("warmupSeconds", warmup);
+			report.put("durationSeconds", duration);
+			report.put("datasetSize", size);
+			report.put("seed", seed);
+			report.put("scenarios", results);
+
+			if (output.getParentFile() != null) {
+				output.getParentFile().mkdirs();
+			}
+
+			new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output, report);
+			LOG.info("Results written to {}.", output.getAbsolutePath());
+
+		} finally {
+			server.stop();
+		}
+	}
+
+	/**
+	 * Runs the given {@link Scenario} with all clients for the given number of seconds.
+	 *
+	 * @param scenario must not be {@literal null}.
+	 * @param seconds
+	 * @return
+	 * @throws InterruptedException
+	 */
+	public ScenarioResult run(final Scenario scenario, int seconds) throws InterruptedException {
+
+		Assert.notNull(scenario, "Scenario must not be null!");
+
+		final LatencyHistogram histogram = new LatencyHistogram();
+		final AtomicLong errors = new AtomicLong();
+		final CountDownLatch done = new CountDownLatch(threads);
+
+		long start = System.nanoTime();
+		final long deadline = start + TimeUnit.SECONDS.toNanos(seconds);
+
+		for (int i = 0; i < threads; i++) {
+
+			final Random random = new Random(seed + i);
+
+			Thread thread = new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+
+					try {
+						while (System.nanoTime() < deadline) {
+							execute(scenario, random, histogram, errors);
+						}
+					} finally {
+						done.countDown();
+					}
+				}
+			}, "load-" + scenario.name().toLowerCase() + "-" + i);
+
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		done.await();
+
+		return new ScenarioResult(scenario, histogram, errors.get(), System.nanoTime() - start);
+	}
+
+	private void execute(Scenario scenario, Random random, LatencyHistogram histogram, AtomicLong errors) {
+
+		try {
+
+			Request request = scenario.prepare(client, dataset, random);
+
+			long start = System.nanoTime();
+			Response response = client.execute(request);
+			long elapsed = System.nanoTime() - start;
+
+			if (!response.isSuccessful()) {
+				LOG.debug("{} returned status {}.", request, response.getStatus());
+				errors.incrementAndGet();
+				return;
+			}
+
+			histogram.record(elapsed);
+			scenario.completed(dataset, response);
+
+		} catch (Exception e) {
+			LOG.debug("Request failed!", e);
+			errors.incrementAndGet();
+		}
+	}
+
+	private static Map<String, String> parse(String[] args) {
+
+		Map<String, String> options = new LinkedHashMap<String, String>();
+
+		for (String arg : args) {
+
+			String[] parts = StringUtils.split(arg, "=");
+			Assert.isTrue(parts != null, "Invalid argument " + arg + ", expected key=value!");
+			options.put(parts[0].trim(), parts[1].trim());
+		}
+
+		return options;
+	}
+
+	private static String option(Map<String, String> options, String key, String defaultValue) {
+
+		String value = options.get(key);
+		return StringUtils.hasText(value) ? value : defaultValue;
+	}
+
+	private static List<Scenario> scenarios(String names) {
+
+		List<Scenario> scenarios = new ArrayList<Scenario>();
+
+		if (!StringUtils.hasText(names)) {
+			for (Scenario scenario : Scenario.values()) {
+				scenarios.add(scenario);
+			}
+			return scenarios;
+		}
+
+		for (String name : StringUtils.commaDelimitedListToStringArray(names)) {
+			scenarios.add(Scenario.valueOf(name.trim().toUpperCase()));
+		}
+
+		return scenarios;
+	}
+}
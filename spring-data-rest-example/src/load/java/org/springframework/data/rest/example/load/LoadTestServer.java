@@ -0,0 +1,114 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.net.URI;
+
+import javax.servlet.ServletException;
+
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.nio.SelectChannelConnector;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.springframework.util.Assert;
+import org.springframework.web.WebApplicationInitializer;
+
+/**
+ * Embedded Jetty serving the application set up by a {@link WebApplicationInitializer} on a random local port.
+ *
+ * @author agent
+ */
+public class LoadTestServer {
+
+	private final WebApplicationInitializer initializer;
+	private final int maxThreads;
+
+	private Server server;
+
+	/**
+	 * Creates a new {@link LoadTestServer} for the given {@link WebApplicationInitializer}.
+	 *
+	 * @param initializer must not be {@literal null}.
+	 * @param maxThreads the maximum number of request processing threads, must be greater than 0.
+	 */
+	public LoadTestServer(WebApplicationInitializer initializer, int maxThreads) {
+
+		Assert.notNull(initializer, "WebApplicationInitializer must not be null!");
+		Assert.isTrue(maxThreads > 0, "Maximum number of threads must be greater than 0!");
+
+		this.initializer = initializer;
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Starts the server and returns the base URI of the application.
+	 *
+	 * @return
+	 * @throws Exception
+	 */
+	public URI start() throws Exception {
+
+		Assert.state(server == null, "Server already started!");
+
+		SelectChannelConnector connector = new SelectChannelConnector();
+		connector.setHost("127.0.0.1");
+		connector.setPort(0);
+
+		// Jetty's ContextHandler returns a raw Enumeration from getAttributeNames()
+		@SuppressWarnings("unchecked")
+		ServletContextHandler context = new ServletContextHandler() {
+
+			/*
+			 * (non-Javadoc)
+			 * @see org.eclipse.jetty.servlet.ServletContextHandler#startContext()
+			 */
+			@Override
+			protected void startContext() throws Exception {
+
+				try {
+					initializer.onStartup(getServletContext());
+				} catch (ServletException e) {
+					throw new IllegalStateException("Could not initialize web application!", e);
+				}
+
+				super.startContext();
+			}
+		};
+
+		context.setContextPath("/");
+
+		server = new Server();
+		server.setThreadPool(new QueuedThreadPool(maxThreads));
+		server.addConnector(connector);
+		server.setHandler(context);
+		server.start();
+
+		return URI.create(String.format("http://127.0.0.1:%s", connector.getLocalPort()));
+	}
+
+	/**
+	 * Stops the server if it has been started.
+	 *
+	 * @throws Exception
+	 */
+	public void stop() throws Exception {
+
+		if (server != null) {
+			server.stop();
+			server = null;
+		}
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import org.springframework.data.rest.example.RestExporterWebInitializer;
+import org.springframework.data.rest.example.jpa.JpaRepositoryConfig;
+
+/**
+ * {@link RestExporterWebInitializer} exporting the JPA repositories only, so that the load tests don't need any
+ * external data store to be running.
+ *
+ * @author agent
+ */
+public class LoadTestWebInitializer extends RestExporterWebInitializer {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.example.RestExporterWebInitializer#getRepositoryConfigClasses()
+	 */
+	@Override
+	protected Class<?>[] getRepositoryConfigClasses() {
+		return new Class<?>[] { JpaRepositoryConfig.class };
+	}
+}
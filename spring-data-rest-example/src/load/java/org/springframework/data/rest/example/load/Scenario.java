@@ -0,0 +1,160 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.io.IOException;
+import java.util.Random;
+
+import org.springframework.data.rest.example.load.LoadTestClient.Request;
+import org.springframework.data.rest.example.load.LoadTestClient.Response;
+
+/**
+ * The request patterns the load test runs. Each scenario prepares the next request to issue, only the execution of
+ * that request is measured.
+ *
+ * @author agent
+ */
+public enum Scenario {
+
+	/**
+	 * Pages through the collection resource of people.
+	 */
+	LIST {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) {
+
+			int pages = Math.max(1, dataset.getSize() / PAGE_SIZE);
+			return Request.get("/people?page=" + (random.nextInt(pages) + 1) + "&limit=" + PAGE_SIZE);
+		}
+	},
+
+	/**
+	 * Accesses a single person.
+	 */
+	GET {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) {
+			return Request.get("/people/" + dataset.randomPersonId(random));
+		}
+	},
+
+	/**
+	 * Creates a new person.
+	 */
+	CREATE {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) {
+			return Dataset.createRequest(Dataset.firstName(random.nextInt(Dataset.FIRST_NAMES)), "Created");
+		}
+
+		@Override
+		void completed(Dataset dataset, Response response) {
+
+			String id = response.getLocationId();
+
+			if (id != null) {
+				dataset.addDisposable(id);
+			}
+		}
+	},
+
+	/**
+	 * Replaces a person created during the load test.
+	 */
+	UPDATE {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) throws IOException {
+
+			String id = disposableId(client, dataset);
+			dataset.addDisposable(id);
+
+			return Request.put("/people/" + id, "{ \"firstName\" : \"Updated\", \"lastName\" : \"Updated\" }");
+		}
+	},
+
+	/**
+	 * Deletes a person created during the load test.
+	 */
+	DELETE {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) throws IOException {
+			return Request.delete("/people/" + disposableId(client, dataset));
+		}
+	},
+
+	/**
+	 * Executes a paged query method.
+	 */
+	SEARCH {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) {
+			return Request.get("/people/search/firstname?firstName=" + Dataset.firstName(random.nextInt(Dataset.FIRST_NAMES))
+					+ "&limit=" + PAGE_SIZE);
+		}
+	},
+
+	/**
+	 * Follows the link to a person's father.
+	 */
+	ASSOCIATION {
+
+		@Override
+		Request prepare(LoadTestClient client, Dataset dataset, Random random) {
+			return Request.get("/people/" + dataset.randomPersonId(random) + "/father");
+		}
+	};
+
+	private static final int PAGE_SIZE = 20;
+
+	/**
+	 * Returns the {@link Request} to measure next.
+	 *
+	 * @param client will never be {@literal null}.
+	 * @param dataset will never be {@literal null}.
+	 * @param random will never be {@literal null}.
+	 * @return
+	 * @throws IOException in case preparing the request required requests to the application that failed.
+	 */
+	abstract Request prepare(LoadTestClient client, Dataset dataset, Random random) throws IOException;
+
+	/**
+	 * Callback after a successful execution of a prepared {@link Request}.
+	 *
+	 * @param dataset will never be {@literal null}.
+	 * @param response will never be {@literal null}.
+	 */
+	void completed(Dataset dataset, Response response) {}
+
+	/**
+	 * Returns the id of a person created during the load test, creating a new one if none is available.
+	 *
+	 * @param client
+	 * @param dataset
+	 * @return
+	 * @throws IOException
+	 */
+	private static String disposableId(LoadTestClient client, Dataset dataset) throws IOException {
+
+		String id = dataset.pollDisposable();
+		return id == null ? Dataset.create(client, "Disposable", "Load") : id;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.load;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.rest.core.metrics.LatencyHistogram;
+import org.springframework.util.Assert;
+
+/**
+ * The outcome of running a {@link Scenario} for a given amount of time. Latencies are reported in microseconds.
+ *
+ * @author agent
+ */
+public class ScenarioResult {
+
+	private final Scenario scenario;
+	private final LatencyHistogram histogram;
+	private final long errors;
+	private final long elapsedNanos;
+
+	/**
+	 * Creates a new {@link ScenarioResult}.
+	 *
+	 * @param scenario must not be {@literal null}.
+	 * @param histogram the latencies of the successful requests, must not be {@literal null}.
+	 * @param errors the number of failed requests.
+	 * @param elapsedNanos the wall clock time the scenario ran.
+	 */
+	public ScenarioResult(Scenario scenario, LatencyHistogram histogram, long errors, long elapsedNanos) {
+
+		Assert.notNull(scenario, "Scenario must not be null!");
+		Assert.notNull(histogram, "LatencyHistogram must not be null!");
+
+		this.scenario = scenario;
+		this.histogram = histogram;
+		this.errors = errors;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public Scenario getScenario() {
+		return scenario;
+	}
+
+	public long getRequests() {
+		return histogram.getCount();
+	}
+
+	public long getErrors() {
+		return errors;
+	}
+
+	/**
+	 * Returns the number of successful requests per second.
+	 *
+	 * @return
+	 */
+	public double getThroughput() {
+		return elapsedNanos == 0 ? 0 : histogram.getCount() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+	}
+
+	/**
+	 * Returns the latency in microseconds below which the given percentage of requests completed.
+	 *
+	 * @param percentile between 0 and 100.
+	 * @return
+	 */
+	public long getLatency(double percentile) {
+		return TimeUnit.NANOSECONDS.toMicros(histogram.getValueAtPercentile(percentile));
+	}
+
+	/**
+	 * Returns the result as {@link Map} to be rendered into the results file.
+	 *
+	 * @return
+	 */
+	public Map<String, Object> toMap() {
+
+		Map<String, Object> latency = new LinkedHashMap<String, Object>();
+		latency.put("mean", TimeUnit.NANOSECONDS.toMicros(histogram.getMean()));
+		latency.put("p50", getLatency(50));
+		latency.put("p99", getLatency(99));
+		latency.put("p999", getLatency(99.9));
+		latency.put("max", TimeUnit.NANOSECONDS.toMicros(histogram.getMax()));
+
+		Map<String, Object> result = new LinkedHashMap<String, Object>();
+		result.put("scenario", scenario.name().toLowerCase());
+		result.put("requests", getRequests());
+		result.put("errors", errors);
+		result.put("throughput", Math.round(getThroughput() * 10) / 10.0);
+		result.put("latencyMicros", latency);
+
+		return result;
+	}
+}
@@ -1,5 +1,7 @@
 package org.springframework.data.rest.example;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,6 +23,8 @@ import org.springframework.hateoas.ResourceProcessor;
 //@ImportResource("classpath:META-INF/spring/security-config.xml")
 public class RestExporterExampleRestConfig extends RepositoryRestMvcConfiguration {
 
+	private static final Logger LOG = LoggerFactory.getLogger(RestExporterExampleRestConfig.class);
+
 	@Bean
 	public MessageSource messageSource() {
 		ReloadableResourceBundleMessageSource msgsrc = new ReloadableResourceBundleMessageSource();
@@ -48,8 +52,7 @@ public class RestExporterExampleRestConfig extends RepositoryRestMvcConfiguratio
 
 			@Override
 			public Resource<Person> process(Resource<Person> resource) {
-				System.out.println("processing " + resource);
-				System.out.println("url: " + config.getBaseUri().toString());
+				LOG.debug("Processing {} with base URI {}.", resource, config.getBaseUri());
 				resource.add(new Link("http://host:port/path", "myrel"));
 				return resource;
 			}
@@ -18,12 +18,7 @@ public class RestExporterWebInitializer implements WebApplicationInitializer {
 
 	@Override public void onStartup(ServletContext servletContext) throws ServletException {
 		AnnotationConfigWebApplicationContext rootCtx = new AnnotationConfigWebApplicationContext();
-		rootCtx.register(
-				JpaRepositoryConfig.class,
-				MongoDbRepositoryConfig.class
-				//GemfireRepositoryConfig.class,
-				//Neo4jRepositoryConfig.class
-		);
+		rootCtx.register(getRepositoryConfigClasses());
 
 		servletContext.addListener(new ContextLoaderListener(rootCtx));
 		//    servletContext.addFilter("springSecurity", DelegatingFilterProxy.class);
@@ -43,4 +38,18 @@ public class RestExporterWebInitializer implements WebApplicationInitializer {
 
 	}
 
+	/**
+	 * Returns the configuration classes setting up the repositories to be exported.
+	 *
+	 * @return
+	 */
+	protected Class<?>[] getRepositoryConfigClasses() {
+		return new Class<?>[] {
+				JpaRepositoryConfig.class,
+				MongoDbRepositoryConfig.class
+				//GemfireRepositoryConfig.class,
+				//Neo4jRepositoryConfig.class
+		};
+	}
+
 }
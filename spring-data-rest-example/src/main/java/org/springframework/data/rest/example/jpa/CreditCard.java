@@ -0,0 +1,59 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.jpa;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+
+/**
+ * A credit card owned by a {@link Person}.
+ *
+ * @author agent
+ */
+@Entity
+@Table(name = "CREDIT_CARD")
+public class CreditCard {
+
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
+	@Column(name = "CARD_NUMBER") private String number;
+	@ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "OWNER_ID") private Person owner;
+
+	public CreditCard(String number, Person owner) {
+		this.number = number;
+		this.owner = owner;
+	}
+
+	protected CreditCard() {}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getNumber() {
+		return number;
+	}
+
+	public Person getOwner() {
+		return owner;
+	}
+}
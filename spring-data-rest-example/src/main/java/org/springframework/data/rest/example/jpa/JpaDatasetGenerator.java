@@ -0,0 +1,315 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.jpa;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Random;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StopWatch;
+
+/**
+ * Populates the JPA domain with a synthetic, reproducible dataset of arbitrary size to test paging, associations and
+ * queries at scale. People form a tree in which every father has a configurable number of children. Every person owns
+ * a number of {@link CreditCard}s and places a number of {@link Order}s consisting of a number of {@link LineItem}s.
+ * Given the same seed and settings, the very same data is generated.
+ * <p/>
+ * Rows are written through batched JDBC inserts bypassing the persistence context, so that millions of rows can be
+ * created in seconds. Ids are assigned by the generator, the identity columns are reset to continue after the
+ * generated rows afterwards, which requires HSQLDB.
+ *
+ * @author agent
+ */
+public class JpaDatasetGenerator {
+
+	private static final Logger LOG = LoggerFactory.getLogger(JpaDatasetGenerator.class);
+
+	private static final String[] FIRST_NAMES = { "Dave", "Oliver", "Jon", "Greg", "Mark", "Thomas", "Christoph",
+			"Jane", "Mary", "Sarah", "Anna", "Laura", "Julia", "Emily" };
+	private static final String[] LAST_NAMES = { "Matthews", "Gierke", "Brisbin", "Turnquist", "Pollack", "Darimont",
+			"Strobl", "Doe", "Miller", "Smith", "Johnson", "Williams", "Brown", "Taylor" };
+	private static final String[] PRODUCTS = { "iPad", "MacBook Pro", "Dock", "Keyboard", "Mouse", "Monitor", "Cable",
+			"Charger", "Headphones", "Sleeve" };
+
+	private final JdbcTemplate template;
+
+	private long seed = 42;
+	private int people = 0;
+	private int childrenPerFather = 10;
+	private int creditCardsPerPerson = 1;
+	private int ordersPerPerson = 5;
+	private int lineItemsPerOrder = 3;
+	private int batchSize = 1000;
+
+	/**
+	 * Creates a new {@link JpaDatasetGenerator} writing to the given {@link DataSource}.
+	 *
+	 * @param dataSource must not be {@literal null}.
+	 */
+	public JpaDatasetGenerator(DataSource dataSource) {
+
+		Assert.notNull(dataSource, "DataSource must not be null!");
+		this.template = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * The seed to derive all random values from. Defaults to 42.
+	 *
+	 * @param seed
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * The number of people to create. Defaults to 0, which disables the generation.
+	 *
+	 * @param people must not be negative.
+	 */
+	public void setPeople(int people) {
+
+		Assert.isTrue(people >= 0, "Number of people must not be negative!");
+		this.people = people;
+	}
+
+	/**
+	 * The number of people sharing the same father. Defaults to 10.
+	 *
+	 * @param childrenPerFather must be greater than 0.
+	 */
+	public void setChildrenPerFather(int childrenPerFather) {
+
+		Assert.isTrue(childrenPerFather > 0, "Number of children per father must be greater than 0!");
+		this.childrenPerFather = childrenPerFather;
+	}
+
+	/**
+	 * The number of {@link CreditCard}s per person. Defaults to 1.
+	 *
+	 * @param creditCardsPerPerson must not be negative.
+	 */
+	public void setCreditCardsPerPerson(int creditCardsPerPerson) {
+
+		Assert.isTrue(creditCardsPerPerson >= 0, "Number of credit cards per person must not be negative!");
+		this.creditCardsPerPerson = creditCardsPerPerson;
+	}
+
+	/**
+	 * The number of {@link Order}s per person. Defaults to 5.
+	 *
+	 * @param ordersPerPerson must not be negative.
+	 */
+	public void setOrdersPerPerson(int ordersPerPerson) {
+
+		Assert.isTrue(ordersPerPerson >= 0, "Number of orders per person must not be negative!");
+		this.ordersPerPerson = ordersPerPerson;
+	}
+
+	/**
+	 * The number of {@link LineItem}s per {@link Order}. Defaults to 3.
+	 *
+	 * @param lineItemsPerOrder must not be negative.
+	 */
+	public void setLineItemsPerOrder(int lineItemsPerOrder) {
+
+		Assert.isTrue(lineItemsPerOrder >= 0, "Number of line items per order must not be negative!");
+		this.lineItemsPerOrder = lineItemsPerOrder;
+	}
+
+	/**
+	 * The number of rows to send to the database in a single batch. Defaults to 1000.
+	 *
+	 * @param batchSize must be greater than 0.
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0!");
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Generates the dataset. Does nothing if the number of people is 0.
+	 */
+	public void generate() {
+
+		if (people == 0) {
+			return;
+		}
+
+		StopWatch watch = new StopWatch("Dataset generation");
+
+		final long personOffset = getMaxId("PERSON");
+		final long cardOffset = getMaxId("CREDIT_CARD");
+		final long orderOffset = getMaxId("ORDERS");
+		final long lineItemOffset = getMaxId("LINE_ITEM");
+
+		final long cards = (long) people * creditCardsPerPerson;
+		final long orders = (long) people * ordersPerPerson;
+		final long lineItems = orders * lineItemsPerOrder;
+
+		final Timestamp created = new Timestamp(System.currentTimeMillis());
+		final Random personRandom = new Random(seed);
+
+		watch.start("people");
+		insert("insert into PERSON (ID, FIRSTNAME, LASTNAME, CREATED, FATHER_ID) values (?, ?, ?, ?, ?)", people,
+				new RowWriter() {
+
+					@Override
+					public void write(PreparedStatement statement, long index) throws SQLException {
+
+						statement.setLong(1, personOffset + index + 1);
+						statement.setString(2, FIRST_NAMES[personRandom.nextInt(FIRST_NAMES.length)]);
+						statement.setString(3, LAST_NAMES[personRandom.nextInt(LAST_NAMES.length)]);
+						statement.setTimestamp(4, created);
+
+						if (index == 0) {
+							statement.setNull(5, Types.BIGINT);
+						} else {
+							statement.setLong(5, personOffset + (index - 1) / childrenPerFather + 1);
+						}
+					}
+				});
+
+		watch.stop();
+		watch.start("credit cards");
+
+		final Random cardRandom = new Random(seed + 1);
+
+		insert("insert into CREDIT_CARD (ID, CARD_NUMBER, OWNER_ID) values (?, ?, ?)", cards, new RowWriter() {
+
+			@Override
+			public void write(PreparedStatement statement, long index) throws SQLException {
+
+				statement.setLong(1, cardOffset + index + 1);
+				statement.setString(2, String.format("4%015d", Math.abs(cardRandom.nextLong()) % 1000000000000000L));
+				statement.setLong(3, personOffset + index / creditCardsPerPerson + 1);
+			}
+		});
+
+		watch.stop();
+		watch.start("orders");
+
+		final Random orderRandom = new Random(seed + 2);
+
+		insert("insert into ORDERS (ID, CREATOR_ID, CREDIT_CARD_ID) values (?, ?, ?)", orders, new RowWriter() {
+
+			@Override
+			public void write(PreparedStatement statement, long index) throws SQLException {
+
+				long person = index / ordersPerPerson;
+
+				statement.setLong(1, orderOffset + index + 1);
+				statement.setLong(2, personOffset + person + 1);
+
+				if (creditCardsPerPerson == 0) {
+					statement.setNull(3, Types.BIGINT);
+				} else {
+					statement.setLong(3, cardOffset + person * creditCardsPerPerson
+							+ orderRandom.nextInt(creditCardsPerPerson) + 1);
+				}
+			}
+		});
+
+		watch.stop();
+		watch.start("line items");
+
+		final Random lineItemRandom = new Random(seed + 3);
+
+		insert("insert into LINE_ITEM (ID, DESCRIPTION, PRICE, AMOUNT, ORDER_ID) values (?, ?, ?, ?, ?)", lineItems,
+				new RowWriter() {
+
+					@Override
+					public void write(PreparedStatement statement, long index) throws SQLException {
+
+						statement.setLong(1, lineItemOffset + index + 1);
+						statement.setString(2, PRODUCTS[lineItemRandom.nextInt(PRODUCTS.length)]);
+						statement.setBigDecimal(3, BigDecimal.valueOf(lineItemRandom.nextInt(100000), 2));
+						statement.setInt(4, lineItemRandom.nextInt(10) + 1);
+						statement.setLong(5, orderOffset + index / lineItemsPerOrder + 1);
+					}
+				});
+
+		watch.stop();
+
+		restartIdentity("PERSON", personOffset + people);
+		restartIdentity("CREDIT_CARD", cardOffset + cards);
+		restartIdentity("ORDERS", orderOffset + orders);
+		restartIdentity("LINE_ITEM", lineItemOffset + lineItems);
+
+		LOG.info("Generated {} people, {} credit cards, {} orders and {} line items in {}ms.", new Object[] { people,
+				cards, orders, lineItems, watch.getTotalTimeMillis() });
+		LOG.debug(watch.prettyPrint());
+	}
+
+	private long getMaxId(String table) {
+
+		Long max = template.queryForObject(String.format("select max(ID) from %s", table), Long.class);
+		return max == null ? 0 : max;
+	}
+
+	private void restartIdentity(String table, long maxId) {
+		template.execute(String.format("alter table %s alter column ID restart with %s", table, maxId + 1));
+	}
+
+	/**
+	 * Inserts the given number of rows using the given SQL in batches.
+	 *
+	 * @param sql must not be {@literal null}.
+	 * @param rows the total number of rows to insert.
+	 * @param writer must not be {@literal null}.
+	 */
+	private void insert(String sql, long rows, final RowWriter writer) {
+
+		for (long start = 0; start < rows; start += batchSize) {
+
+			final long offset = start;
+			final int size = (int) Math.min(batchSize, rows - start);
+
+			template.batchUpdate(sql, new BatchPreparedStatementSetter() {
+
+				@Override
+				public void setValues(PreparedStatement statement, int i) throws SQLException {
+					writer.write(statement, offset + i);
+				}
+
+				@Override
+				public int getBatchSize() {
+					return size;
+				}
+			});
+		}
+	}
+
+	/**
+	 * Callback to bind the values of a single row.
+	 *
+	 * @author agent
+	 */
+	private interface RowWriter {
+
+		void write(PreparedStatement statement, long index) throws SQLException;
+	}
+}
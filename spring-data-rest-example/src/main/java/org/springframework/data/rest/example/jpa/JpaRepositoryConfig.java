@@ -3,9 +3,12 @@ package org.springframework.data.rest.example.jpa;
 import javax.persistence.EntityManagerFactory;
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.env.Environment;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -27,6 +30,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableTransactionManagement
 public class JpaRepositoryConfig {
 
+	@Autowired Environment environment;
+
 	@Bean public DataSource dataSource() {
 		EmbeddedDatabaseBuilder builder = new EmbeddedDatabaseBuilder();
 		return builder.setType(EmbeddedDatabaseType.HSQL).build();
@@ -61,4 +66,24 @@ public class JpaRepositoryConfig {
 		return new JpaLoader();
 	}
 
+	/**
+	 * Generates a large dataset on startup if started with {@code -Dexample.dataset.people=<number>}. The fan-out is
+	 * tuned through {@code example.dataset.children-per-father}, {@code credit-cards-per-person},
+	 * {@code orders-per-person} and {@code line-items-per-order}, reproducibility through {@code example.dataset.seed}.
+	 */
+	@Bean(initMethod = "generate") @DependsOn("entityManagerFactory") public JpaDatasetGenerator datasetGenerator() {
+
+		JpaDatasetGenerator generator = new JpaDatasetGenerator(dataSource());
+		generator.setSeed(environment.getProperty("example.dataset.seed", Long.class, 42L));
+		generator.setPeople(environment.getProperty("example.dataset.people", Integer.class, 0));
+		generator.setChildrenPerFather(environment.getProperty("example.dataset.children-per-father", Integer.class, 10));
+		generator.setCreditCardsPerPerson(environment.getProperty("example.dataset.credit-cards-per-person", Integer.class,
+				1));
+		generator.setOrdersPerPerson(environment.getProperty("example.dataset.orders-per-person", Integer.class, 5));
+		generator.setLineItemsPerOrder(environment.getProperty("example.dataset.line-items-per-order", Integer.class, 3));
+		generator.setBatchSize(environment.getProperty("example.dataset.batch-size", Integer.class, 1000));
+
+		return generator;
+	}
+
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.jpa;
+
+import java.math.BigDecimal;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * A single position of an {@link Order}.
+ *
+ * @author agent
+ */
+@Entity
+@Table(name = "LINE_ITEM")
+public class LineItem {
+
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
+	@Column(name = "DESCRIPTION") private String description;
+	@Column(name = "PRICE") private BigDecimal price;
+	@Column(name = "AMOUNT") private int amount;
+
+	public LineItem(String description, BigDecimal price, int amount) {
+		this.description = description;
+		this.price = price;
+		this.amount = amount;
+	}
+
+	protected LineItem() {}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getDescription() {
+		return description;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public int getAmount() {
+		return amount;
+	}
+}
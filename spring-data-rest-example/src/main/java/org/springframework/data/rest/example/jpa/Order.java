@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.example.jpa;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+import javax.persistence.Table;
+
+/**
+ * An order placed by a {@link Person} and paid with a {@link CreditCard}.
+ *
+ * @author agent
+ */
+@Entity
+@Table(name = "ORDERS")
+public class Order {
+
+	@Id @GeneratedValue(strategy = GenerationType.IDENTITY) private Long id;
+	@ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "CREATOR_ID") private Person creator;
+	@ManyToOne(fetch = FetchType.LAZY) @JoinColumn(name = "CREDIT_CARD_ID") private CreditCard creditCard;
+	@OneToMany(cascade = CascadeType.ALL) @JoinColumn(name = "ORDER_ID")
+	private List<LineItem> lineItems = new ArrayList<LineItem>();
+
+	public Order(Person creator, CreditCard creditCard) {
+		this.creator = creator;
+		this.creditCard = creditCard;
+	}
+
+	protected Order() {}
+
+	public Long getId() {
+		return id;
+	}
+
+	public Person getCreator() {
+		return creator;
+	}
+
+	public CreditCard getCreditCard() {
+		return creditCard;
+	}
+
+	public List<LineItem> getLineItems() {
+		return lineItems;
+	}
+
+	public Order add(LineItem lineItem) {
+		this.lineItems.add(lineItem);
+		return this;
+	}
+}
@@ -19,9 +19,12 @@ import static org.springframework.data.rest.webmvc.ControllerUtils.*;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -30,17 +33,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.MessageSource;
 import org.springframework.context.MessageSourceAware;
 import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
 import org.springframework.data.rest.webmvc.support.RepositoryConstraintViolationExceptionMessage;
+import org.springframework.data.rest.webmvc.support.ResourceAssemblyExecutor;
+import org.springframework.data.rest.webmvc.support.ServerTiming;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -65,6 +74,7 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 
 	@Autowired(required = false) private ValidationExceptionHandler handler;
 	@Autowired(required = false) private PlatformTransactionManager txMgr;
+	@Autowired(required = false) private ResourceAssemblyExecutor assemblyExecutor;
 
 	private MessageSource messageSource;
 	private PagedResourcesAssembler<Object> assembler;
@@ -157,6 +167,18 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 		return errorResponse(null, ex, HttpStatus.CONFLICT);
 	}
 
+	/**
+	 * Send a 412 Precondition Failed in case an {@code If-Match} header doesn't match the entity's current version.
+	 * 
+	 * @param ex
+	 * @return
+	 */
+	@ExceptionHandler({ ETagDoesntMatchException.class })
+	@ResponseBody
+	public ResponseEntity<?> handlePreconditionFailed(ETagDoesntMatchException ex) {
+		return response(ex.getCurrentETag().addTo(new HttpHeaders()), null, HttpStatus.PRECONDITION_FAILED);
+	}
+
 	protected <T> ResponseEntity<T> notFound() {
 		return notFound(null, null);
 	}
@@ -224,11 +246,35 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 	protected Resources<? extends Resource<Object>> entitiesToResources(Page<Object> page,
 			PagedResourcesAssembler<Object> assembler) {
 
-		return assembler.toResource(page, perAssembler);
+		List<Object> content = page.getContent();
+
+		if (!isParallel(content)) {
+			return assembler.toResource(page, perAssembler);
+		}
+
+		// Assemble the resources upfront and let the PagedResourcesAssembler look them up
+		final Map<Object, Resource<Object>> resources = new IdentityHashMap<Object, Resource<Object>>(content.size());
+		List<Resource<Object>> assembled = toResourcesInParallel(content);
+
+		for (int i = 0; i < content.size(); i++) {
+			resources.put(content.get(i), assembled.get(i));
+		}
+
+		return assembler.toResource(page, new ResourceAssembler<Object, Resource<Object>>() {
+
+			@Override
+			public Resource<Object> toResource(Object entity) {
+				return resources.get(entity);
+			}
+		});
 	}
 
 	protected Resources<Resource<Object>> entitiesToResources(Iterable<Object> entities) {
 
+		if (entities instanceof Collection && isParallel((Collection<?>) entities)) {
+			return new Resources<Resource<Object>>(toResourcesInParallel((Collection<Object>) entities));
+		}
+
 		List<Resource<Object>> resources = new ArrayList<Resource<Object>>();
 
 		for (Object obj : entities) {
@@ -237,4 +283,35 @@ class AbstractRepositoryRestController implements MessageSourceAware, Initializi
 
 		return new Resources<Resource<Object>>(resources);
 	}
+
+	private boolean isParallel(Collection<?> entities) {
+		return assemblyExecutor != null && assemblyExecutor.isParallel(entities.size());
+	}
+
+	/**
+	 * Turns the given entities into {@link Resource}s using the {@link ResourceAssemblyExecutor}. Records the time spent
+	 * as a whole, as the {@link ServerTiming} isn't available on the worker threads.
+	 * 
+	 * @param entities must not be {@literal null}.
+	 * @return
+	 */
+	private List<Resource<Object>> toResourcesInParallel(Collection<Object> entities) {
+
+		ServerTiming timing = ServerTiming.current();
+		long start = timing == null ? 0 : System.nanoTime();
+
+		List<Resource<Object>> resources = assemblyExecutor.convert(entities, new Converter<Object, Resource<Object>>() {
+
+			@Override
+			public Resource<Object> convert(Object source) {
+				return source == null ? null : perAssembler.toResource(source);
+			}
+		});
+
+		if (timing != null) {
+			timing.record(Phase.ASSEMBLY, start);
+		}
+
+		return resources;
+	}
 }
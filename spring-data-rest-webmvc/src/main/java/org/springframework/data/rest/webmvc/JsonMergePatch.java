@@ -0,0 +1,73 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * A JSON Merge Patch document (RFC 7386) sent with a {@code PATCH} request. Captures the partial domain object read
+ * from the document along with the paths of the fields it contained, so that only those get applied to the target
+ * entity. Fields set to {@literal null} in the document are meant to be cleared. Nested objects are merged
+ * recursively, i.e. they contribute the paths of their fields (e.g. {@code address.street}) rather than replacing the
+ * current value. Arrays replace the current value as a whole.
+ * 
+ * @author agent
+ */
+public class JsonMergePatch {
+
+	public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+	private final Object content;
+	private final Set<String> propertyPaths;
+
+	/**
+	 * Creates a new {@link JsonMergePatch} for the given partial domain object and the paths of the properties contained
+	 * in the document.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param propertyPaths must not be {@literal null}.
+	 */
+	public JsonMergePatch(Object content, Set<String> propertyPaths) {
+
+		Assert.notNull(content, "Content must not be null!");
+		Assert.notNull(propertyPaths, "Property paths must not be null!");
+
+		this.content = content;
+		this.propertyPaths = Collections.unmodifiableSet(propertyPaths);
+	}
+
+	/**
+	 * Returns the domain object holding the values of the patch document.
+	 * 
+	 * @return
+	 */
+	public Object getContent() {
+		return content;
+	}
+
+	/**
+	 * Returns the paths of the properties contained in the patch document. Properties of nested objects are listed
+	 * using dot notation.
+	 * 
+	 * @return
+	 */
+	public Set<String> getPropertyPaths() {
+		return propertyPaths;
+	}
+}
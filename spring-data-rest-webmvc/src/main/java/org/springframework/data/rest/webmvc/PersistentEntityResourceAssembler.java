@@ -18,6 +18,8 @@ package org.springframework.data.rest.webmvc;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.model.BeanWrapper;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.webmvc.support.ServerTiming;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
@@ -53,10 +55,18 @@ public class PersistentEntityResourceAssembler<T> implements ResourceAssembler<T
 	@Override
 	public PersistentEntityResource<T> toResource(T instance) {
 
+		ServerTiming timing = ServerTiming.current();
+		long start = timing == null ? 0 : System.nanoTime();
+
 		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(instance.getClass());
 
 		PersistentEntityResource<T> resource = PersistentEntityResource.wrap(entity, instance);
 		resource.add(getSelfLinkFor(instance));
+
+		if (timing != null) {
+			timing.record(Phase.ASSEMBLY, start);
+		}
+
 		return resource;
 	}
 
@@ -67,6 +77,6 @@ public class PersistentEntityResourceAssembler<T> implements ResourceAssembler<T
 		BeanWrapper<?, Object> wrapper = BeanWrapper.create(instance, null);
 		Object id = wrapper.getProperty(entity.getIdProperty());
 
-		return entityLinks.linkForSingleResource(entity.getType(), id).withSelfRel();
+		return entityLinks.linkToSingleResource(entity.getType(), id).withSelfRel();
 	}
 }
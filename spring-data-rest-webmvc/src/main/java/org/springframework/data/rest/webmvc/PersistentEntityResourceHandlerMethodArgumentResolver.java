@@ -1,20 +1,35 @@
 package org.springframework.data.rest.webmvc;
 
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map.Entry;
 import java.util.List;
+import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 /**
+ * Resolves {@link PersistentEntityResource} and {@link JsonMergePatch} arguments from the request body.
+ * 
  * @author Jon Brisbin
+ * @author agent
  */
 public class PersistentEntityResourceHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
@@ -27,7 +42,8 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 	@Override
 	public boolean supportsParameter(MethodParameter parameter) {
-		return PersistentEntityResource.class.isAssignableFrom(parameter.getParameterType());
+		Class<?> type = parameter.getParameterType();
+		return PersistentEntityResource.class.isAssignableFrom(type) || JsonMergePatch.class.equals(type);
 	}
 
 	@Override
@@ -39,12 +55,24 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		final ServletServerHttpRequest request = new ServletServerHttpRequest(
 				webRequest.getNativeRequest(HttpServletRequest.class));
+		Class<?> domainType = repoRequest.getPersistentEntity().getType();
+		MediaType contentType = request.getHeaders().getContentType();
+
 		for (HttpMessageConverter converter : messageConverters) {
-			Class<?> domainType = repoRequest.getPersistentEntity().getType();
-			if (!converter.canRead(domainType, request.getHeaders().getContentType())) {
+			if (!converter.canRead(domainType, contentType)) {
 				continue;
 			}
 
+			if (JsonMergePatch.class.equals(parameter.getParameterType())) {
+
+				if (!(converter instanceof MappingJackson2HttpMessageConverter)) {
+					continue;
+				}
+
+				return readMergePatch(((MappingJackson2HttpMessageConverter) converter).getObjectMapper(), domainType,
+						request);
+			}
+
 			Object obj = converter.read(domainType, request);
 			return new PersistentEntityResource<Object>(repoRequest.getPersistentEntity(), obj);
 		}
@@ -52,4 +80,56 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		return null;
 	}
 
+	/**
+	 * Reads the body of the given request into a {@link JsonMergePatch} for the given domain type.
+	 * 
+	 * @param mapper must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param request must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	private static JsonMergePatch readMergePatch(ObjectMapper mapper, Class<?> domainType,
+			ServletServerHttpRequest request) throws IOException {
+
+		try {
+
+			JsonNode node = mapper.readTree(request.getBody());
+
+			if (node == null || !node.isObject()) {
+				throw new HttpMessageNotReadableException("A merge patch document must be a JSON object!");
+			}
+
+			Set<String> propertyPaths = new LinkedHashSet<String>();
+			collectPropertyPaths(node, "", propertyPaths);
+
+			return new JsonMergePatch(mapper.treeToValue(node, domainType), propertyPaths);
+
+		} catch (JsonProcessingException e) {
+			throw new HttpMessageNotReadableException("Could not read merge patch document: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Collects the paths of all fields contained in the given object node. Fields holding an object are not listed
+	 * themselves but contribute the paths of their nested fields, as nested objects get merged recursively.
+	 * 
+	 * @param node must not be {@literal null}.
+	 * @param prefix must not be {@literal null}.
+	 * @param paths must not be {@literal null}.
+	 */
+	private static void collectPropertyPaths(JsonNode node, String prefix, Set<String> paths) {
+
+		for (Iterator<Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+
+			Entry<String, JsonNode> field = fields.next();
+			String path = prefix + field.getKey();
+
+			if (field.getValue().isObject()) {
+				collectPropertyPaths(field.getValue(), path + ".", paths);
+			} else {
+				paths.add(path);
+			}
+		}
+	}
 }
@@ -15,8 +15,6 @@
  */
 package org.springframework.data.rest.webmvc;
 
-import static org.springframework.data.rest.webmvc.ControllerUtils.*;
-
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -24,15 +22,12 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.model.BeanWrapper;
-import org.springframework.data.repository.support.DomainClassConverter;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
@@ -41,10 +36,12 @@ import org.springframework.data.rest.core.event.AfterSaveEvent;
 import org.springframework.data.rest.core.event.BeforeCreateEvent;
 import org.springframework.data.rest.core.event.BeforeDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEventBus;
 import org.springframework.data.rest.core.invoke.RepositoryInvoker;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
+import org.springframework.data.rest.webmvc.support.ETagResolver;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityLinks;
 import org.springframework.hateoas.Link;
@@ -55,8 +52,10 @@ import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -66,42 +65,34 @@ import org.springframework.web.bind.annotation.ResponseBody;
  * @author Oliver Gierke
  */
 @RepositoryRestController
-class RepositoryEntityController extends AbstractRepositoryRestController implements ApplicationEventPublisherAware {
+class RepositoryEntityController extends AbstractRepositoryRestController {
 
 	private static final String BASE_MAPPING = "/{repository}";
 
 	private final EntityLinks entityLinks;
 	private final PersistentEntityResourceAssembler<Object> perAssembler;
 	private final RepositoryRestConfiguration config;
-	private final DomainClassConverter<?> converter;
 	private final ConversionService conversionService;
 	private final DomainObjectMerger domainObjectMerger;
-
-	private ApplicationEventPublisher publisher;
+	private final RepositoryEventBus eventBus;
+	private final ETagResolver eTagResolver;
 
 	@Autowired
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			EntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
-			PersistentEntityResourceAssembler<Object> perAssembler, DomainClassConverter<?> converter,
-			@Qualifier("defaultConversionService") ConversionService conversionService, DomainObjectMerger domainObjectMerger) {
+			PersistentEntityResourceAssembler<Object> perAssembler,
+			@Qualifier("defaultConversionService") ConversionService conversionService, DomainObjectMerger domainObjectMerger,
+			RepositoryEventBus eventBus, ETagResolver eTagResolver) {
 
 		super(assembler, perAssembler);
 
 		this.entityLinks = entityLinks;
 		this.perAssembler = perAssembler;
 		this.config = config;
-		this.converter = converter;
 		this.conversionService = conversionService;
 		this.domainObjectMerger = domainObjectMerger;
-	}
-
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
-	 */
-	@Override
-	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
-		this.publisher = publisher;
+		this.eventBus = eventBus;
+		this.eTagResolver = eTagResolver;
 	}
 
 	@ResponseBody
@@ -169,12 +160,12 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new NoSuchMethodError();
 		}
 
-		publisher.publishEvent(new BeforeCreateEvent(incoming.getContent()));
+		eventBus.publishEvent(BeforeCreateEvent.class, incoming.getContent());
 		Object obj = invoker.invokeSave(incoming.getContent());
-		publisher.publishEvent(new AfterCreateEvent(obj));
+		eventBus.publishEvent(AfterCreateEvent.class, obj);
 
 		Link selfLink = perAssembler.getSelfLinkFor(obj);
-		HttpHeaders headers = new HttpHeaders();
+		HttpHeaders headers = eTagResolver.getETag(repoRequest.getPersistentEntity(), obj).addTo(new HttpHeaders());
 		headers.setLocation(URI.create(selfLink.getHref()));
 
 		PersistentEntityResource<Object> resource = config.isReturnBodyOnCreate() ? perAssembler.toResource(obj) : null;
@@ -206,54 +197,116 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			return new ResponseEntity<Resource<?>>(HttpStatus.NOT_FOUND);
 		}
 
-		return new ResponseEntity<Resource<?>>(perAssembler.toResource(domainObj), HttpStatus.OK);
+		HttpHeaders headers = eTagResolver.getETag(repoRequest.getPersistentEntity(), domainObj).addTo(new HttpHeaders());
+		return new ResponseEntity<Resource<?>>(perAssembler.toResource(domainObj), headers, HttpStatus.OK);
 	}
 
 	/**
-	 * {@code PUT / repository}/{id}} - Updates an existing entity or creates one at exactly that place.
+	 * {@code PUT / repository}/{id}} - Updates an existing entity or creates one at exactly that place. If an
+	 * {@code If-Match} header is given, the existing entity's version has to match it. For domain types configured via
+	 * {@link RepositoryRestConfiguration#replaceOnUpdateFor(Class...)} the entity is saved without being read first.
 	 * 
 	 * @param request
 	 * @param incoming
 	 * @param id
+	 * @param ifMatch
 	 * @return
 	 */
 	@ResponseBody
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.PUT, consumes = { "application/json" },
 			produces = { "application/json", "text/uri-list" })
 	public ResponseEntity<? extends ResourceSupport> updateEntity(RepositoryRestRequest request,
-			PersistentEntityResource<Object> incoming, @PathVariable String id) {
+			PersistentEntityResource<Object> incoming, @PathVariable String id,
+			@RequestHeader(value = "If-Match", required = false) String ifMatch) {
 
 		RepositoryInvoker invoker = request.getRepositoryInvoker();
+
+		// Stores with native upsert replace the entity without reading it first
+		if (ifMatch == null && config.isReplaceOnUpdateFor(request.getPersistentEntity().getType())) {
+
+			if (!invoker.exposesSave()) {
+				return new ResponseEntity<Resource<?>>(HttpStatus.METHOD_NOT_ALLOWED);
+			}
+
+			applyId(incoming, id);
+
+			eventBus.publishEvent(BeforeSaveEvent.class, incoming.getContent());
+			Object obj = invoker.invokeSave(incoming.getContent());
+			eventBus.publishEvent(AfterSaveEvent.class, obj);
+
+			return toUpdateResponse(request, obj);
+		}
+
 		if (!invoker.exposesSave() || !invoker.exposesFindOne()) {
 			return new ResponseEntity<Resource<?>>(HttpStatus.METHOD_NOT_ALLOWED);
 		}
 
-		Object domainObj = converter.convert(id, STRING_TYPE,
-				TypeDescriptor.valueOf(request.getPersistentEntity().getType()));
+		Object domainObj = invoker.invokeFindOne(id);
+
+		eTagResolver.verify(ifMatch, request.getPersistentEntity(), domainObj);
+
 		if (null == domainObj) {
-			BeanWrapper<?, Object> incomingWrapper = BeanWrapper.create(incoming.getContent(), conversionService);
-			PersistentProperty<?> idProp = incoming.getPersistentEntity().getIdProperty();
-			incomingWrapper.setProperty(idProp, conversionService.convert(id, idProp.getType()));
+			applyId(incoming, id);
 			return createNewEntity(request, incoming);
 		}
 
-		domainObjectMerger.merge(incoming.getContent(), domainObj);
+		// Skip the write and events if the representation matches the stored state
+		if (!domainObjectMerger.merge(incoming.getContent(), domainObj)) {
+			return toUpdateResponse(request, domainObj);
+		}
 
-		publisher.publishEvent(new BeforeSaveEvent(incoming.getContent()));
+		eventBus.publishEvent(BeforeSaveEvent.class, incoming.getContent());
 		Object obj = invoker.invokeSave(domainObj);
-		publisher.publishEvent(new AfterSaveEvent(obj));
+		eventBus.publishEvent(AfterSaveEvent.class, obj);
 
-		if (config.isReturnBodyOnUpdate()) {
-			return ControllerUtils.toResponseEntity(null, perAssembler.toResource(obj), HttpStatus.OK);
-		} else {
-			return ControllerUtils.toResponseEntity(null, null, HttpStatus.NO_CONTENT);
+		return toUpdateResponse(request, obj);
+	}
+
+	/**
+	 * {@code PATCH / repository}/{id}} - Applies a JSON Merge Patch document to an existing entity. Only the properties
+	 * contained in the document are changed. If an {@code If-Match} header is given, the entity's version has to match
+	 * it.
+	 * 
+	 * @param request
+	 * @param patch
+	 * @param id
+	 * @param ifMatch
+	 * @return
+	 */
+	@ResponseBody
+	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.PATCH, consumes = { JsonMergePatch.MEDIA_TYPE,
+			"application/json" }, produces = { "application/json", "text/uri-list" })
+	public ResponseEntity<? extends ResourceSupport> patchEntity(RepositoryRestRequest request, JsonMergePatch patch,
+			@PathVariable String id, @RequestHeader(value = "If-Match", required = false) String ifMatch) {
+
+		RepositoryInvoker invoker = request.getRepositoryInvoker();
+		if (!invoker.exposesSave() || !invoker.exposesFindOne()) {
+			return new ResponseEntity<Resource<?>>(HttpStatus.METHOD_NOT_ALLOWED);
+		}
+
+		Object domainObj = invoker.invokeFindOne(id);
+		if (null == domainObj) {
+			return new ResponseEntity<Resource<?>>(HttpStatus.NOT_FOUND);
 		}
+
+		eTagResolver.verify(ifMatch, request.getPersistentEntity(), domainObj);
+
+		if (!domainObjectMerger.merge(patch.getContent(), domainObj, patch.getPropertyPaths())) {
+			return toUpdateResponse(request, domainObj);
+		}
+
+		eventBus.publishEvent(BeforeSaveEvent.class, domainObj);
+		Object obj = invoker.invokeSave(domainObj);
+		eventBus.publishEvent(AfterSaveEvent.class, obj);
+
+		return toUpdateResponse(request, obj);
 	}
 
 	@RequestMapping(value = BASE_MAPPING + "/{id}", method = RequestMethod.DELETE)
 	@ResponseBody
-	public ResponseEntity<?> deleteEntity(final RepositoryRestRequest repoRequest, @PathVariable final String id)
-			throws ResourceNotFoundException, HttpRequestMethodNotSupportedException {
+	public ResponseEntity<?> deleteEntity(final RepositoryRestRequest repoRequest, @PathVariable final String id,
+			@RequestHeader(value = "If-Match", required = false) String ifMatch) throws ResourceNotFoundException,
+			HttpRequestMethodNotSupportedException {
 
 		RepositoryInvoker invoker = repoRequest.getRepositoryInvoker();
 
@@ -268,13 +321,57 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		// throw new HttpRequestMethodNotSupportedException("DELETE");
 		// }
 
+		Class<?> domainType = repoRequest.getPersistentEntity().getType();
+
+		// Only load the entity if someone is going to look at it
+		if (!StringUtils.hasText(ifMatch) && !eventBus.hasListeners(BeforeDeleteEvent.class, domainType)
+				&& !eventBus.hasListeners(AfterDeleteEvent.class, domainType)) {
+
+			try {
+				invoker.invokeDelete(id);
+			} catch (EmptyResultDataAccessException e) {
+				throw new ResourceNotFoundException();
+			}
+
+			return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
+		}
+
 		Object domainObj = invoker.invokeFindOne(id);
 
-		publisher.publishEvent(new BeforeDeleteEvent(domainObj));
-		invoker.invokeDelete(id);
-		publisher.publishEvent(new AfterDeleteEvent(domainObj));
+		eTagResolver.verify(ifMatch, repoRequest.getPersistentEntity(), domainObj);
+
+		if (domainObj == null) {
+			throw new ResourceNotFoundException();
+		}
+
+		eventBus.publishEvent(BeforeDeleteEvent.class, domainObj);
+		invoker.invokeDelete(id, domainObj);
+		eventBus.publishEvent(AfterDeleteEvent.class, domainObj);
 
 		return new ResponseEntity<Object>(HttpStatus.NO_CONTENT);
 	}
 
+	/**
+	 * Sets the given id on the content of the given {@link PersistentEntityResource}.
+	 * 
+	 * @param incoming must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 */
+	private void applyId(PersistentEntityResource<Object> incoming, String id) {
+
+		BeanWrapper<?, Object> incomingWrapper = BeanWrapper.create(incoming.getContent(), conversionService);
+		PersistentProperty<?> idProp = incoming.getPersistentEntity().getIdProperty();
+		incomingWrapper.setProperty(idProp, conversionService.convert(id, idProp.getType()));
+	}
+
+	private ResponseEntity<ResourceSupport> toUpdateResponse(RepositoryRestRequest request, Object obj) {
+
+		HttpHeaders headers = eTagResolver.getETag(request.getPersistentEntity(), obj).addTo(new HttpHeaders());
+
+		if (config.isReturnBodyOnUpdate()) {
+			return ControllerUtils.toResponseEntity(headers, perAssembler.toResource(obj), HttpStatus.OK);
+		} else {
+			return ControllerUtils.toResponseEntity(headers, null, HttpStatus.NO_CONTENT);
+		}
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.core.metrics.MetricsRegistry;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+/**
+ * Exposes a snapshot of the {@link MetricsRegistry} as JSON. Only reachable if metrics are enabled in the
+ * {@link org.springframework.data.rest.core.config.RepositoryRestConfiguration}.
+ * 
+ * @author agent
+ */
+@RepositoryRestController
+public class RepositoryMetricsController {
+
+	static final String PATH = "metrics";
+
+	private final MetricsRegistry registry;
+
+	/**
+	 * Creates a new {@link RepositoryMetricsController} for the given {@link MetricsRegistry}.
+	 * 
+	 * @param registry must not be {@literal null}.
+	 */
+	@Autowired
+	public RepositoryMetricsController(MetricsRegistry registry) {
+
+		Assert.notNull(registry, "MetricsRegistry must not be null!");
+		this.registry = registry;
+	}
+
+	/**
+	 * Returns all metrics recorded, keyed by group and name.
+	 * 
+	 * @return
+	 */
+	@ResponseBody
+	@RequestMapping(value = "/" + PATH, method = RequestMethod.GET, produces = "application/json")
+	public Map<String, Map<String, Map<String, Object>>> getMetrics() {
+		return registry.getSnapshot();
+	}
+}
@@ -20,14 +20,13 @@ import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -38,10 +37,12 @@ import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEventBus;
 import org.springframework.data.rest.core.invoke.RepositoryInvoker;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.util.Function;
+import org.springframework.data.rest.webmvc.support.JpaFetchPlanner;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -65,35 +66,28 @@ import org.springframework.web.bind.annotation.ResponseBody;
  */
 @RepositoryRestController
 @SuppressWarnings({ "unchecked" })
-public class RepositoryPropertyReferenceController extends AbstractRepositoryRestController implements
-		ApplicationEventPublisherAware {
+public class RepositoryPropertyReferenceController extends AbstractRepositoryRestController {
 
 	private static final String BASE_MAPPING = "/{repository}/{id}/{property}";
 
 	private final Repositories repositories;
 	private final PersistentEntityResourceAssembler<Object> perAssembler;
 	private final DomainClassConverter<?> converter;
+	private final RepositoryEventBus eventBus;
 
-	private ApplicationEventPublisher publisher;
+	@Autowired(required = false) private JpaFetchPlanner fetchPlanner;
 
 	@Autowired
 	public RepositoryPropertyReferenceController(Repositories repositories, DomainClassConverter<?> domainClassConverter,
-			PagedResourcesAssembler<Object> assembler, PersistentEntityResourceAssembler<Object> perAssembler) {
+			PagedResourcesAssembler<Object> assembler, PersistentEntityResourceAssembler<Object> perAssembler,
+			RepositoryEventBus eventBus) {
 
 		super(assembler, perAssembler);
 
 		this.repositories = repositories;
 		this.perAssembler = perAssembler;
 		this.converter = domainClassConverter;
-	}
-
-	/* 
-	 * (non-Javadoc)
-	 * @see org.springframework.context.ApplicationEventPublisherAware#setApplicationEventPublisher(org.springframework.context.ApplicationEventPublisher)
-	 */
-	@Override
-	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.publisher = applicationEventPublisher;
+		this.eventBus = eventBus;
 	}
 
 	@RequestMapping(value = BASE_MAPPING, method = RequestMethod.GET, produces = { "application/json",
@@ -113,6 +107,8 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					throw new ResourceNotFoundException();
 				}
 
+				applyFetchPlan(prop);
+
 				if (prop.property.isCollectionLike()) {
 
 					List<Resource<?>> resources = new ArrayList<Resource<?>>();
@@ -175,9 +171,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					prop.wrapper.setProperty(prop.property, null);
 				}
 
-				publisher.publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
+				eventBus.publishEvent(BeforeLinkDeleteEvent.class, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = repoMethodInvoker.invokeSave(prop.wrapper.getBean());
-				publisher.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+				eventBus.publishEvent(AfterLinkDeleteEvent.class, result, prop.propertyValue);
 
 				return null;
 			}
@@ -358,9 +354,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					prop.wrapper.setProperty(prop.property, propVal);
 				}
 
-				publisher.publishEvent(new BeforeLinkSaveEvent(prop.wrapper.getBean(), prop.propertyValue));
+				eventBus.publishEvent(BeforeLinkSaveEvent.class, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = invoker.invokeSave(prop.wrapper.getBean());
-				publisher.publishEvent(new AfterLinkSaveEvent(result, prop.propertyValue));
+				eventBus.publishEvent(AfterLinkSaveEvent.class, result, prop.propertyValue);
 
 				return null;
 			}
@@ -416,9 +412,9 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 					prop.wrapper.setProperty(prop.property, null);
 				}
 
-				publisher.publishEvent(new BeforeLinkDeleteEvent(prop.wrapper.getBean(), prop.propertyValue));
+				eventBus.publishEvent(BeforeLinkDeleteEvent.class, prop.wrapper.getBean(), prop.propertyValue);
 				Object result = invoker.invokeSave(prop.wrapper.getBean());
-				publisher.publishEvent(new AfterLinkDeleteEvent(result, prop.propertyValue));
+				eventBus.publishEvent(AfterLinkDeleteEvent.class, result, prop.propertyValue);
 
 				return null;
 			}
@@ -460,6 +456,26 @@ public class RepositoryPropertyReferenceController extends AbstractRepositoryRes
 		return handler.apply(new ReferencedProperty(prop, propVal, wrapper));
 	}
 
+	/**
+	 * Loads the attributes rendered inline for all entities referred to by the given property at once.
+	 * 
+	 * @param prop must not be {@literal null}.
+	 */
+	private void applyFetchPlan(ReferencedProperty prop) {
+
+		if (fetchPlanner == null) {
+			return;
+		}
+
+		if (prop.property.isMap()) {
+			fetchPlanner.apply(prop.propertyType, ((Map<Object, Object>) prop.propertyValue).values());
+		} else if (prop.propertyValue instanceof Iterable) {
+			fetchPlanner.apply(prop.propertyType, (Iterable<Object>) prop.propertyValue);
+		} else {
+			fetchPlanner.apply(prop.propertyType, Collections.singleton(prop.propertyValue));
+		}
+	}
+
 	private class ReferencedProperty {
 
 		final PersistentEntity<?, ?> entity;
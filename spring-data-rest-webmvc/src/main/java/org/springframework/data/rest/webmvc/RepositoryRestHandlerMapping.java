@@ -19,6 +19,7 @@ import static org.springframework.util.StringUtils.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
@@ -27,28 +28,45 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.MetricsHandlerInterceptor;
+import org.springframework.data.rest.webmvc.support.ServerTiming;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
+import org.springframework.data.rest.webmvc.support.ServerTimingHandlerInterceptor;
 import org.springframework.http.MediaType;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.util.Assert;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
  * {@link RequestMappingHandlerMapping} implementation that will only find a handler method if a
- * {@link org.springframework.data.repository.Repository} is exported under that URL path segment. Also ensures the
- * {@link OpenEntityManagerInViewInterceptor} is registered in the application context. The OEMIVI is required for the
- * REST exporter to function properly.
+ * {@link org.springframework.data.repository.Repository} is exported under that URL path segment. Also applies an
+ * {@link OpenEntityManagerInViewInterceptor} for the {@link javax.persistence.EntityManagerFactory} backing the
+ * repository addressed by the request. The OEMIVI is required for the REST exporter to function properly.
  * 
  * @author Jon Brisbin
  * @author Oliver Gierke
  */
 public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 
+	// Math.random() synchronizes on a shared Random, so every thread samples with its own one
+	private static final ThreadLocal<Random> SAMPLING_RANDOM = new ThreadLocal<Random>() {
+
+		@Override
+		protected Random initialValue() {
+			return new Random();
+		}
+	};
+
 	private final ResourceMappings mappings;
 	private final RepositoryRestConfiguration config;
 
 	private JpaHelper jpaHelper;
+	private MetricsHandlerInterceptor metricsInterceptor;
 
 	/**
 	 * Creates a new {@link RepositoryRestHandlerMapping} for the given {@link ResourceMappings} and
@@ -75,6 +93,13 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 		this.jpaHelper = jpaHelper;
 	}
 
+	/**
+	 * @param metricsInterceptor the {@link MetricsHandlerInterceptor} to record controller metrics with
+	 */
+	public void setMetricsInterceptor(MetricsHandlerInterceptor metricsInterceptor) {
+		this.metricsInterceptor = metricsInterceptor;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.handler.AbstractHandlerMethodMapping#lookupHandlerMethod(java.lang.String, javax.servlet.http.HttpServletRequest)
@@ -82,6 +107,37 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 	@Override
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest origRequest) throws Exception {
 
+		double sampleRate = config.getServerTimingSampleRate();
+
+		if (sampleRate == 0) {
+			return doLookupHandlerMethod(lookupPath, origRequest);
+		}
+
+		if (sampleRate < 1 && SAMPLING_RANDOM.get().nextDouble() >= sampleRate) {
+			ServerTiming.clear();
+			return doLookupHandlerMethod(lookupPath, origRequest);
+		}
+
+		ServerTiming timing = ServerTiming.start();
+		long start = System.nanoTime();
+		HandlerMethod handlerMethod = null;
+
+		try {
+			handlerMethod = doLookupHandlerMethod(lookupPath, origRequest);
+			return handlerMethod;
+		} finally {
+
+			// Not handled by us, so no interceptor will release the timing
+			if (handlerMethod == null) {
+				ServerTiming.clear();
+			} else {
+				timing.record(Phase.ROUTING, start);
+			}
+		}
+	}
+
+	private HandlerMethod doLookupHandlerMethod(String lookupPath, HttpServletRequest origRequest) throws Exception {
+
 		String acceptType = origRequest.getHeader("Accept");
 
 		if (null == acceptType) {
@@ -131,6 +187,10 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 			return super.lookupHandlerMethod(lookupPath, request);
 		}
 
+		if (config.isMetricsEnabled() && RepositoryMetricsController.PATH.equals(parts[0])) {
+			return super.lookupHandlerMethod(lookupPath, request);
+		}
+
 		return null;
 	}
 
@@ -149,11 +209,60 @@ public class RepositoryRestHandlerMapping extends RequestMappingHandlerMapping {
 	 */
 	@Override
 	protected void extendInterceptors(List<Object> interceptors) {
-		if (null != jpaHelper) {
-			for (Object o : jpaHelper.getInterceptors()) {
-				interceptors.add(o);
+
+		if (null != metricsInterceptor) {
+			interceptors.add(metricsInterceptor);
+		}
+
+		if (config.getServerTimingSampleRate() > 0) {
+			interceptors.add(new ServerTimingHandlerInterceptor());
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.handler.AbstractHandlerMapping#getHandlerExecutionChain(java.lang.Object, javax.servlet.http.HttpServletRequest)
+	 */
+	@Override
+	protected HandlerExecutionChain getHandlerExecutionChain(Object handler, HttpServletRequest request) {
+
+		HandlerExecutionChain chain = super.getHandlerExecutionChain(handler, request);
+
+		if (null == jpaHelper) {
+			return chain;
+		}
+
+		ResourceMetadata metadata = getAddressedResource(request);
+		HandlerInterceptor interceptor = metadata == null ? null : jpaHelper.getInterceptorFor(metadata.getDomainType());
+
+		if (null != interceptor) {
+			chain.addInterceptor(interceptor);
+		}
+
+		return chain;
+	}
+
+	/**
+	 * Returns the {@link ResourceMetadata} of the exported repository the given request is routed to.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @return the {@link ResourceMetadata} or {@literal null} for requests to the root or metrics resource.
+	 */
+	private ResourceMetadata getAddressedResource(HttpServletRequest request) {
+
+		String[] parts = trimLeadingCharacter(getUrlPathHelper().getLookupPathForRequest(request), '/').split("/");
+
+		if (!hasText(parts[0])) {
+			return null;
+		}
+
+		for (ResourceMetadata metadata : mappings) {
+			if (metadata.isExported() && metadata.getPath().matches(parts[0])) {
+				return metadata;
 			}
 		}
+
+		return null;
 	}
 
 	private static class DefaultAcceptTypeHttpServletRequest extends HttpServletRequestWrapper {
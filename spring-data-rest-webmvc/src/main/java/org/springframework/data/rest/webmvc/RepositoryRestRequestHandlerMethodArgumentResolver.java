@@ -16,7 +16,6 @@
 package org.springframework.data.rest.webmvc;
 
 import org.springframework.core.MethodParameter;
-import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.invoke.RepositoryInvoker;
@@ -40,19 +39,19 @@ public class RepositoryRestRequestHandlerMethodArgumentResolver implements Handl
 
 	/**
 	 * Creates a new {@link RepositoryRestRequestHandlerMethodArgumentResolver} using the given {@link Repositories} and
-	 * {@link ConversionService}.
+	 * {@link RepositoryInvokerFactory}.
 	 * 
 	 * @param repositories must not be {@literal null}.
-	 * @param conversionService must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
 	 */
 	public RepositoryRestRequestHandlerMethodArgumentResolver(Repositories repositories,
-			ConversionService conversionService, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver) {
+			RepositoryInvokerFactory invokerFactory, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver) {
 
 		Assert.notNull(repositories, "Repositories must not be null!");
-		Assert.notNull(conversionService, "ConversionService must not be null!");
+		Assert.notNull(invokerFactory, "RepositoryInvokerFactory must not be null!");
 
 		this.repositories = repositories;
-		this.invokerFactory = new RepositoryInvokerFactory(repositories, conversionService);
+		this.invokerFactory = invokerFactory;
 		this.resourceMetadataResolver = resourceMetadataResolver;
 	}
 
@@ -21,13 +21,25 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.core.MethodParameter;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
+import org.springframework.data.rest.webmvc.support.ResourceAssemblyExecutor;
+import org.springframework.data.rest.webmvc.support.ServerTiming;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.ResourceSupport;
@@ -36,6 +48,7 @@ import org.springframework.hateoas.mvc.HeaderLinksResponseEntity;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
@@ -59,7 +72,11 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 
 	private final HandlerMethodReturnValueHandler delegate;
 	private final List<ProcessorWrapper> processors;
+	private final ConcurrentMap<ProcessorCacheKey, List<ProcessorWrapper>> processorCache = new ConcurrentHashMap<ProcessorCacheKey, List<ProcessorWrapper>>();
+	private final boolean threadSafeProcessors;
 	private boolean rootLinksAsHeaders = false;
+	private ResourceAssemblyExecutor assemblyExecutor;
+	private LinkTemplates linkTemplates;
 
 	/**
 	 * Creates a new {@link ResourceProcessorHandlerMethodReturnValueHandler} using the given delegate to eventually
@@ -80,8 +97,12 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		this.delegate = delegate;
 		this.processors = new ArrayList<ProcessorWrapper>();
 
+		boolean threadSafeProcessors = true;
+
 		for (ResourceProcessor<?> processor : processors) {
 
+			threadSafeProcessors &= AnnotationUtils.findAnnotation(processor.getClass(), ThreadSafeResourceProcessor.class) != null;
+
 			TypeInformation<?> componentType = from(processor.getClass()).getSuperTypeInformation(ResourceProcessor.class)
 					.getComponentType();
 			Class<?> rawType = componentType.getType();
@@ -96,6 +117,7 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		}
 
 		Collections.sort(this.processors, AnnotationAwareOrderComparator.INSTANCE);
+		this.threadSafeProcessors = threadSafeProcessors;
 	}
 
 	/**
@@ -105,6 +127,26 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		this.rootLinksAsHeaders = rootLinksAsHeaders;
 	}
 
+	/**
+	 * Configures the {@link ResourceAssemblyExecutor} to process the elements of large {@link Resources} in parallel.
+	 * Only used if all {@link ResourceProcessor}s are annotated with {@link ThreadSafeResourceProcessor}.
+	 * 
+	 * @param assemblyExecutor can be {@literal null}.
+	 */
+	public void setAssemblyExecutor(ResourceAssemblyExecutor assemblyExecutor) {
+		this.assemblyExecutor = assemblyExecutor;
+	}
+
+	/**
+	 * Configures the {@link LinkTemplates} to obtain the base {@link Link} to be added to the top-level resource if links
+	 * are rendered root-relative.
+	 * 
+	 * @param linkTemplates can be {@literal null}.
+	 */
+	public void setLinkTemplates(LinkTemplates linkTemplates) {
+		this.linkTemplates = linkTemplates;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.method.support.HandlerMethodReturnValueHandler#supportsReturnType(org.springframework.core.MethodParameter)
@@ -122,18 +164,24 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest) throws Exception {
 
+		ServerTiming timing = ServerTiming.current();
 		Object value = returnValue;
 
 		if (returnValue instanceof HttpEntity) {
 			value = ((HttpEntity<?>) returnValue).getBody();
 		}
 
-		// No post-processable type found - proceed with delegate
-		if (!isResourceType(value)) {
+		Link baseLink = linkTemplates == null ? null : linkTemplates.getBaseLink();
+
+		// No post-processable type found or nothing to do - proceed with delegate
+		if (!isResourceType(value) || processors.isEmpty() && !rootLinksAsHeaders && baseLink == null) {
+			reportTiming(timing, webRequest);
 			delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
 			return;
 		}
 
+		long start = timing == null ? 0 : System.nanoTime();
+
 		// We have a Resource or Resources - find suitable processors
 		TypeInformation<?> targetType = ClassTypeInformation.fromReturnTypeOf(returnType.getMethod());
 
@@ -152,26 +200,161 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		if (RESOURCES_TYPE.isAssignableFrom(targetType)) {
 
 			Resources<?> resources = (Resources<?>) value;
+			Collection<?> content = resources.getContent();
 			TypeInformation<?> elementTargetType = targetType.getSuperTypeInformation(Resources.class).getComponentType();
-			List<Object> result = new ArrayList<Object>(resources.getContent().size());
 
-			for (Object element : resources) {
+			List<Object> result = isParallel(content) ? processInParallel(content, elementTargetType) : process(content,
+					elementTargetType);
 
-				TypeInformation<?> elementTypeInformation = from(element.getClass());
-				if (!elementTargetType.getType().equals(elementTypeInformation.getType())) {
-					elementTargetType = elementTypeInformation;
-				}
-
-				result.add(invokeProcessorsFor(element, elementTargetType));
+			if (result != null) {
+				ReflectionUtils.setField(CONTENT_FIELD, resources, result);
 			}
-
-			ReflectionUtils.setField(CONTENT_FIELD, resources, result);
 		}
 
 		ResourceSupport result = (ResourceSupport) invokeProcessorsFor(value, targetType);
+
+		if (baseLink != null && result.getLink(LinkTemplates.BASE_REL) == null) {
+			relativize(result, baseLink);
+			result.add(baseLink);
+		}
+
+		if (timing != null) {
+			timing.record(Phase.PROCESSORS, start);
+			reportTiming(timing, webRequest);
+		}
+
 		delegate.handleReturnValue(rewrapResult(result, returnValue), returnType, mavContainer, webRequest);
 	}
 
+	/**
+	 * Adds the phases recorded so far by the given {@link ServerTiming} as header to the response, as it will be
+	 * committed by the delegate.
+	 * 
+	 * @param timing can be {@literal null}.
+	 * @param webRequest must not be {@literal null}.
+	 */
+	private static void reportTiming(ServerTiming timing, NativeWebRequest webRequest) {
+
+		if (timing == null || !timing.hasUnreportedPhases()) {
+			return;
+		}
+
+		HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
+
+		if (response != null && !response.isCommitted()) {
+			response.addHeader(ServerTiming.HEADER, timing.report());
+		}
+	}
+
+	/**
+	 * Invokes the processors for all given elements.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param elementTargetType the declared type of the elements, must not be {@literal null}.
+	 * @return the processed elements or {@literal null} if no processor replaced any of the elements.
+	 */
+	private List<Object> process(Collection<?> content, TypeInformation<?> elementTargetType) {
+
+		// Only copy the content if processors actually replace elements
+		List<Object> result = null;
+		int index = 0;
+
+		for (Object element : content) {
+
+			if (!elementTargetType.getType().equals(element.getClass())) {
+				elementTargetType = from(element.getClass());
+			}
+
+			Object processed = invokeProcessorsFor(element, elementTargetType);
+
+			if (result == null && processed != element) {
+				result = copyHead(content, index);
+			}
+
+			if (result != null) {
+				result.add(processed);
+			}
+
+			index++;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Turns the links of the given {@link ResourceSupport} pointing to the given base into root-relative ones. Catches
+	 * the links not created through {@link LinkTemplates}, e.g. the ones to navigate pages.
+	 * 
+	 * @param resource must not be {@literal null}.
+	 * @param baseLink must not be {@literal null}.
+	 */
+	private static void relativize(ResourceSupport resource, Link baseLink) {
+
+		String base = baseLink.getHref();
+		List<Link> links = new ArrayList<Link>(resource.getLinks().size());
+
+		for (Link link : resource.getLinks()) {
+
+			String href = link.getHref();
+			links.add(href.startsWith(base.concat("/")) ? new Link(href.substring(base.length()), link.getRel()) : link);
+		}
+
+		resource.removeLinks();
+		resource.add(links);
+	}
+
+	/**
+	 * Returns whether the given elements are to be processed in parallel.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @return
+	 */
+	private boolean isParallel(Collection<?> content) {
+		return assemblyExecutor != null && threadSafeProcessors && assemblyExecutor.isParallel(content.size());
+	}
+
+	/**
+	 * Invokes the processors for all given elements using the configured {@link ResourceAssemblyExecutor}.
+	 * 
+	 * @param content must not be {@literal null}.
+	 * @param elementTargetType the declared type of the elements, must not be {@literal null}.
+	 * @return
+	 */
+	private List<Object> processInParallel(Collection<?> content, final TypeInformation<?> elementTargetType) {
+
+		return assemblyExecutor.convert(content, new Converter<Object, Object>() {
+
+			@Override
+			public Object convert(Object element) {
+
+				TypeInformation<?> targetType = elementTargetType.getType().equals(element.getClass()) ? elementTargetType
+						: from(element.getClass());
+
+				return invokeProcessorsFor(element, targetType);
+			}
+		});
+	}
+
+	/**
+	 * Returns a new {@link List} containing the first {@code size} elements of the given {@link Collection} and enough
+	 * capacity to eventually hold all of them.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param size
+	 * @return
+	 */
+	private static List<Object> copyHead(Collection<?> source, int size) {
+
+		List<Object> result = new ArrayList<Object>(source.size());
+		Iterator<?> iterator = source.iterator();
+
+		for (int i = 0; i < size; i++) {
+			result.add(iterator.next());
+		}
+
+		return result;
+	}
+
 	/**
 	 * Invokes all registered {@link ResourceProcessor}s registered for the given {@link TypeInformation}.
 	 * 
@@ -181,10 +364,35 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	 */
 	private Object invokeProcessorsFor(Object value, TypeInformation<?> targetType) {
 
+		for (ProcessorWrapper wrapper : getProcessorsFor(targetType, value)) {
+
+			Object result = wrapper.invokeProcessor(value);
+
+			// The matches were calculated for the original value, so re-evaluate the remaining processors
+			if (result != value) {
+				int next = processors.indexOf(wrapper) + 1;
+				return invokeProcessorsFor(result, targetType, processors.subList(next, processors.size()));
+			}
+		}
+
+		return value;
+	}
+
+	/**
+	 * Invokes the given {@link ProcessorWrapper}s supporting the given {@link TypeInformation} and the value as it
+	 * evolves.
+	 * 
+	 * @param value the object to process
+	 * @param targetType
+	 * @param candidates must not be {@literal null}.
+	 * @return
+	 */
+	private static Object invokeProcessorsFor(Object value, TypeInformation<?> targetType,
+			List<ProcessorWrapper> candidates) {
+
 		Object currentValue = value;
 
-		// Process actual value
-		for (ProcessorWrapper wrapper : this.processors) {
+		for (ProcessorWrapper wrapper : candidates) {
 			if (wrapper.supports(targetType, currentValue)) {
 				currentValue = wrapper.invokeProcessor(currentValue);
 			}
@@ -193,6 +401,35 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		return currentValue;
 	}
 
+	/**
+	 * Returns the {@link ProcessorWrapper}s supporting the given {@link TypeInformation} and value. As the decision only
+	 * depends on the types involved, it's cached per target type and the types of the value and its content.
+	 * 
+	 * @param targetType must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @return
+	 */
+	private List<ProcessorWrapper> getProcessorsFor(TypeInformation<?> targetType, Object value) {
+
+		ProcessorCacheKey key = ProcessorCacheKey.of(targetType, value);
+		List<ProcessorWrapper> result = processorCache.get(key);
+
+		if (result != null) {
+			return result;
+		}
+
+		result = new ArrayList<ProcessorWrapper>();
+
+		for (ProcessorWrapper wrapper : this.processors) {
+			if (wrapper.supports(targetType, value)) {
+				result.add(wrapper);
+			}
+		}
+
+		List<ProcessorWrapper> existing = processorCache.putIfAbsent(key, result);
+		return existing == null ? result : existing;
+	}
+
 	/**
 	 * Re-wraps the result of the post-processing work into an {@link HttpEntity} or {@link ResponseEntity} if the
 	 * original value was one of those two types. Copies headers and status code from the original value but uses the new
@@ -442,6 +679,93 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 		}
 	}
 
+	/**
+	 * Cache key for the {@link ProcessorWrapper}s applicable to a value. Captures everything the wrappers consider in
+	 * {@link ProcessorWrapper#supports(TypeInformation, Object)}: the target type, the type of the value itself and,
+	 * for {@link Resource}s, the type of their content as well as the type of the first element of {@link Resources}
+	 * and its content.
+	 * 
+	 * @author agent
+	 */
+	private static final class ProcessorCacheKey {
+
+		private final TypeInformation<?> targetType;
+		private final Class<?> valueType;
+		private final Class<?> elementType;
+		private final Class<?> contentType;
+
+		private ProcessorCacheKey(TypeInformation<?> targetType, Class<?> valueType, Class<?> elementType,
+				Class<?> contentType) {
+
+			this.targetType = targetType;
+			this.valueType = valueType;
+			this.elementType = elementType;
+			this.contentType = contentType;
+		}
+
+		/**
+		 * Creates a new {@link ProcessorCacheKey} for the given target type and value.
+		 * 
+		 * @param targetType must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		public static ProcessorCacheKey of(TypeInformation<?> targetType, Object value) {
+
+			Object element = value;
+
+			if (value instanceof Resources) {
+				Collection<?> content = ((Resources<?>) value).getContent();
+				element = content.isEmpty() ? null : content.iterator().next();
+			}
+
+			Object content = element instanceof Resource ? ((Resource<?>) element).getContent() : null;
+
+			return new ProcessorCacheKey(targetType, getType(value), value == element ? null : getType(element),
+					getType(content));
+		}
+
+		private static Class<?> getType(Object value) {
+			return value == null ? null : value.getClass();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof ProcessorCacheKey)) {
+				return false;
+			}
+
+			ProcessorCacheKey that = (ProcessorCacheKey) obj;
+
+			return this.targetType.equals(that.targetType) && ObjectUtils.nullSafeEquals(this.valueType, that.valueType)
+					&& ObjectUtils.nullSafeEquals(this.elementType, that.elementType)
+					&& ObjectUtils.nullSafeEquals(this.contentType, that.contentType);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = targetType.hashCode();
+			result = 31 * result + ObjectUtils.nullSafeHashCode(valueType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(elementType);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(contentType);
+			return result;
+		}
+	}
+
 	/**
 	 * Helper extension of {@link AnnotationAwareOrderComparator} to make {@link #getOrder(Object)} public to allow it
 	 * being used in a standalone fashion.
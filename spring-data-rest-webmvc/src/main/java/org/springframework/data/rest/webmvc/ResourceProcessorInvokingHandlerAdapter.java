@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
+import org.springframework.data.rest.webmvc.support.ResourceAssemblyExecutor;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
@@ -45,6 +47,8 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 			ResourceProcessorInvokingHandlerAdapter.class, "getReturnValueHandlers");
 
 	private final List<ResourceProcessor<?>> resourcesProcessors;
+	private ResourceAssemblyExecutor assemblyExecutor;
+	private LinkTemplates linkTemplates;
 
 	/**
 	 * Creates a new {@link ResourceProcessorInvokingHandlerAdapter} with the given {@link ResourceProcessor}s.
@@ -58,6 +62,27 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 		this.resourcesProcessors = resourcesProcessors;
 	}
 
+	/**
+	 * Configures the {@link ResourceAssemblyExecutor} to process the elements of large
+	 * {@link org.springframework.hateoas.Resources} in parallel.
+	 * 
+	 * @param assemblyExecutor can be {@literal null}.
+	 * @see ResourceProcessorHandlerMethodReturnValueHandler#setAssemblyExecutor(ResourceAssemblyExecutor)
+	 */
+	public void setAssemblyExecutor(ResourceAssemblyExecutor assemblyExecutor) {
+		this.assemblyExecutor = assemblyExecutor;
+	}
+
+	/**
+	 * Configures the {@link LinkTemplates} to add a base link to top-level resources if links are rendered root-relative.
+	 * 
+	 * @param linkTemplates can be {@literal null}.
+	 * @see ResourceProcessorHandlerMethodReturnValueHandler#setLinkTemplates(LinkTemplates)
+	 */
+	public void setLinkTemplates(LinkTemplates linkTemplates) {
+		this.linkTemplates = linkTemplates;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#afterPropertiesSet()
@@ -71,8 +96,13 @@ public class ResourceProcessorInvokingHandlerAdapter extends RequestMappingHandl
 		HandlerMethodReturnValueHandlerComposite oldHandlers = getReturnValueHandlersComposite();
 
 		// Set up ResourceProcessingHandlerMethodResolver to delegate to originally configured ones
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				oldHandlers, resourcesProcessors);
+		handler.setAssemblyExecutor(assemblyExecutor);
+		handler.setLinkTemplates(linkTemplates);
+
 		List<HandlerMethodReturnValueHandler> newHandlers = new ArrayList<HandlerMethodReturnValueHandler>();
-		newHandlers.add(new ResourceProcessorHandlerMethodReturnValueHandler(oldHandlers, resourcesProcessors));
+		newHandlers.add(handler);
 
 		// Configure the new handler to be used
 		this.setReturnValueHandlers(newHandlers);
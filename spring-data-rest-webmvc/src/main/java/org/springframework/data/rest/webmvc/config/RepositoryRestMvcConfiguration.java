@@ -15,11 +15,18 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.lang.management.ManagementFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,11 +44,17 @@ import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.UriDomainClassConverter;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AnnotatedHandlerBeanPostProcessor;
+import org.springframework.data.rest.core.event.RepositoryEventBus;
 import org.springframework.data.rest.core.event.ValidatingRepositoryEventListener;
 import org.springframework.data.rest.core.invoke.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor;
+import org.springframework.data.rest.core.metrics.MetricsRecordingRepositoryInvokerInterceptor;
+import org.springframework.data.rest.core.metrics.MetricsRegistry;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
+import org.springframework.data.rest.core.support.MetadataSnapshot;
 import org.springframework.data.rest.core.util.UUIDConverter;
+import org.springframework.data.rest.webmvc.JsonMergePatch;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.RepositoryRestController;
@@ -54,8 +67,17 @@ import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
 import org.springframework.data.rest.webmvc.json.Jackson2DatatypeHelper;
 import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module;
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter;
+import org.springframework.data.rest.webmvc.support.ETagResolver;
+import org.springframework.data.rest.webmvc.support.FetchPlanRepositoryInvokerInterceptor;
+import org.springframework.data.rest.webmvc.support.JpaFetchPlanner;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
+import org.springframework.data.rest.webmvc.support.MetricsHandlerInterceptor;
+import org.springframework.data.rest.webmvc.support.ServerTimingHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.ServerTimingJackson2HttpMessageConverter;
+import org.springframework.data.rest.webmvc.support.ServerTimingRepositoryInvokerInterceptor;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.ResourceAssemblyExecutor;
 import org.springframework.data.rest.webmvc.support.ValidationExceptionHandler;
 import org.springframework.data.web.config.HateoasAwareSpringDataWebConfiguration;
 import org.springframework.format.support.DefaultFormattingConversionService;
@@ -65,6 +87,7 @@ import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.util.ClassUtils;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
@@ -98,6 +121,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Autowired ListableBeanFactory beanFactory;
 	@Autowired(required = false) List<ResourceProcessor<?>> resourceProcessors = Collections.emptyList();
+	@Autowired(required = false) List<RepositoryInvokerInterceptor> invokerInterceptors = Collections.emptyList();
 
 	@Bean
 	public Repositories repositories() {
@@ -148,12 +172,32 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	@Bean
 	public JpaHelper jpaHelper() {
 		if (IS_JPA_AVAILABLE) {
-			return new JpaHelper();
+			JpaHelper helper = new JpaHelper();
+			helper.setCloseEntityManagerAfterSerialization(config().isCloseEntityManagerAfterSerialization());
+			return helper;
 		} else {
 			return null;
 		}
 	}
 
+	/**
+	 * Loads the attributes rendered inline for all entities read from a repository at once if JPA is available.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public JpaFetchPlanner jpaFetchPlanner() {
+
+		if (!IS_JPA_AVAILABLE) {
+			return null;
+		}
+
+		Map<String, EntityManagerFactory> factories = BeanFactoryUtils.beansOfTypeIncludingAncestors(beanFactory,
+				EntityManagerFactory.class);
+
+		return new JpaFetchPlanner(repositories(), resourceMappings(), factories.values());
+	}
+
 	/**
 	 * Main configuration for the REST exporter.
 	 */
@@ -172,7 +216,41 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public AnnotatedHandlerBeanPostProcessor annotatedHandlerBeanPostProcessor() {
-		return new AnnotatedHandlerBeanPostProcessor();
+
+		AnnotatedHandlerBeanPostProcessor postProcessor = new AnnotatedHandlerBeanPostProcessor();
+		postProcessor.setMetadataSnapshot(metadataSnapshot());
+		return postProcessor;
+	}
+
+	/**
+	 * Metadata collected during startup to be reused on the next one. Only backed by a file if
+	 * {@link RepositoryRestConfiguration#getMetadataSnapshotLocation()} is configured.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public MetadataSnapshot metadataSnapshot() {
+
+		RepositoryRestConfiguration config = config();
+
+		if (config.getMetadataSnapshotLocation() == null) {
+			return MetadataSnapshot.disabled();
+		}
+
+		return MetadataSnapshot.load(config.getMetadataSnapshotLocation(),
+				RepositoryRestMvcConfiguration.class.getClassLoader());
+	}
+
+	/**
+	 * Dispatches {@link org.springframework.data.rest.core.event.RepositoryEvent}s to the listeners interested in them.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public RepositoryEventBus repositoryEventBus() {
+		RepositoryEventBus eventBus = new RepositoryEventBus();
+		configureRepositoryEventBus(eventBus);
+		return eventBus;
 	}
 
 	/**
@@ -186,6 +264,16 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return new DomainObjectMerger(repositories(), defaultConversionService());
 	}
 
+	/**
+	 * Derives ETags from the version property of domain objects and verifies {@code If-Match} preconditions.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public ETagResolver eTagResolver() {
+		return new ETagResolver();
+	}
+
 	/**
 	 * Turns an {@link javax.servlet.http.HttpServletRequest} into a
 	 * {@link org.springframework.http.server.ServerHttpRequest}.
@@ -204,7 +292,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public RepositoryRestRequestHandlerMethodArgumentResolver repoRequestArgumentResolver() {
-		return new RepositoryRestRequestHandlerMethodArgumentResolver(repositories(), defaultConversionService(),
+		return new RepositoryRestRequestHandlerMethodArgumentResolver(repositories(), repositoryInvokerFactory(),
 				resourceMetadataHandlerMethodArgumentResolver());
 	}
 
@@ -222,7 +310,18 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public EntityLinks entityLinks() {
-		return new RepositoryEntityLinks(repositories(), resourceMappings(), config());
+		return new RepositoryEntityLinks(repositories(), resourceMappings(), linkTemplates());
+	}
+
+	/**
+	 * Creates the hrefs of repository resources without going through a
+	 * {@link org.springframework.web.util.UriComponentsBuilder} for each of them.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public LinkTemplates linkTemplates() {
+		return new LinkTemplates(resourceMappings(), config());
 	}
 
 	/**
@@ -273,11 +372,12 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public MappingJackson2HttpMessageConverter jacksonHttpMessageConverter() {
-		MappingJackson2HttpMessageConverter jacksonConverter = new MappingJackson2HttpMessageConverter();
+		MappingJackson2HttpMessageConverter jacksonConverter = config().getServerTimingSampleRate() == 0
+				? new MappingJackson2HttpMessageConverter() : new ServerTimingJackson2HttpMessageConverter();
 		jacksonConverter.setObjectMapper(objectMapper());
 		jacksonConverter.setSupportedMediaTypes(Arrays.asList(MediaType.APPLICATION_JSON,
 				MediaType.valueOf("application/schema+json"), MediaType.valueOf("application/x-spring-data-verbose+json"),
-				MediaType.valueOf("application/x-spring-data-compact+json")));
+				MediaType.valueOf("application/x-spring-data-compact+json"), MediaType.valueOf(JsonMergePatch.MEDIA_TYPE)));
 		return jacksonConverter;
 	}
 
@@ -312,10 +412,25 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		RepositoryRestHandlerAdapter handlerAdapter = new RepositoryRestHandlerAdapter(defaultMethodArgumentResolvers(),
 				resourceProcessors);
 		handlerAdapter.setMessageConverters(messageConverters);
+		handlerAdapter.setAssemblyExecutor(resourceAssemblyExecutor());
+		handlerAdapter.setLinkTemplates(linkTemplates());
 
 		return handlerAdapter;
 	}
 
+	/**
+	 * Executor to assemble and process the elements of large collection resources in parallel. Doesn't start any threads
+	 * unless {@link RepositoryRestConfiguration#setParallelAssemblyThreshold(int)} is configured.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public ResourceAssemblyExecutor resourceAssemblyExecutor() {
+
+		RepositoryRestConfiguration config = config();
+		return new ResourceAssemblyExecutor(config.getParallelAssemblyThreads(), config.getParallelAssemblyThreshold());
+	}
+
 	/**
 	 * Special {@link org.springframework.web.servlet.HandlerMapping} that only recognizes handler methods defined in the
 	 * provided controller classes.
@@ -328,6 +443,10 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		RepositoryRestHandlerMapping mapping = new RepositoryRestHandlerMapping(resourceMappings(), config());
 		mapping.setJpaHelper(jpaHelper());
 
+		if (config().isMetricsEnabled()) {
+			mapping.setMetricsInterceptor(new MetricsHandlerInterceptor(metricsRegistry()));
+		}
+
 		return mapping;
 	}
 
@@ -337,11 +456,44 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		Repositories repositories = repositories();
 		RepositoryRestConfiguration config = config();
 
+		ResourceMappings mappings;
+
 		try {
 			RelProvider relProvider = beanFactory.getBean(RelProvider.class);
-			return new ResourceMappings(config, repositories, relProvider);
+			mappings = new ResourceMappings(config, repositories, relProvider);
 		} catch (NoSuchBeanDefinitionException e) {
-			return new ResourceMappings(config, repositories);
+			mappings = new ResourceMappings(config, repositories);
+		}
+
+		if (config.isEagerMetadataInitialization()) {
+			initialize(mappings, repositories);
+		}
+
+		return mappings;
+	}
+
+	private static void initialize(ResourceMappings mappings, Repositories repositories) {
+
+		List<Class<?>> domainTypes = new ArrayList<Class<?>>();
+
+		for (Class<?> domainType : repositories) {
+			domainTypes.add(domainType);
+		}
+
+		if (domainTypes.isEmpty()) {
+			return;
+		}
+
+		int threads = Math.min(domainTypes.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory(
+				"repository-metadata-"));
+
+		try {
+			mappings.initialize(executor);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdown();
 		}
 	}
 
@@ -376,7 +528,43 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Bean
 	public RepositoryInvokerFactory repositoryInvokerFactory() {
-		return new RepositoryInvokerFactory(repositories(), defaultConversionService());
+
+		List<RepositoryInvokerInterceptor> interceptors = new ArrayList<RepositoryInvokerInterceptor>(invokerInterceptors);
+
+		if (config().isMetricsEnabled()) {
+			interceptors.add(new MetricsRecordingRepositoryInvokerInterceptor(metricsRegistry()));
+		}
+
+		if (config().getServerTimingSampleRate() > 0) {
+			interceptors.add(new ServerTimingRepositoryInvokerInterceptor());
+		}
+
+		if (jpaFetchPlanner() != null) {
+			interceptors.add(new FetchPlanRepositoryInvokerInterceptor(jpaFetchPlanner()));
+		}
+
+		RepositoryInvokerFactory factory = new RepositoryInvokerFactory(repositories(), defaultConversionService());
+		factory.setInterceptors(interceptors);
+
+		return factory;
+	}
+
+	/**
+	 * Registry for the latency and throughput metrics recorded if enabled in the {@link RepositoryRestConfiguration}.
+	 * Registers the metrics with the platform {@link javax.management.MBeanServer} in that case.
+	 * 
+	 * @return
+	 */
+	@Bean
+	public MetricsRegistry metricsRegistry() {
+
+		MetricsRegistry registry = new MetricsRegistry();
+
+		if (config().isMetricsEnabled()) {
+			registry.setMBeanServer(ManagementFactory.getPlatformMBeanServer());
+		}
+
+		return registry;
 	}
 
 	private List<HttpMessageConverter<?>> defaultMessageConverters() {
@@ -387,9 +575,22 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	}
 
 	private List<HandlerMethodArgumentResolver> defaultMethodArgumentResolvers() {
-		return Arrays.asList(pageableResolver(), sortResolver(), serverHttpRequestMethodArgumentResolver(),
-				repoRequestArgumentResolver(), persistentEntityArgumentResolver(),
+
+		List<HandlerMethodArgumentResolver> resolvers = Arrays.asList(pageableResolver(), sortResolver(),
+				serverHttpRequestMethodArgumentResolver(), repoRequestArgumentResolver(), persistentEntityArgumentResolver(),
 				resourceMetadataHandlerMethodArgumentResolver());
+
+		if (config().getServerTimingSampleRate() == 0) {
+			return resolvers;
+		}
+
+		List<HandlerMethodArgumentResolver> timed = new ArrayList<HandlerMethodArgumentResolver>(resolvers.size());
+
+		for (HandlerMethodArgumentResolver resolver : resolvers) {
+			timed.add(new ServerTimingHandlerMethodArgumentResolver(resolver));
+		}
+
+		return timed;
 	}
 
 	/**
@@ -414,6 +615,15 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	protected void configureValidatingRepositoryEventListener(ValidatingRepositoryEventListener validatingListener) {}
 
+	/**
+	 * Override this method to register additional listeners or to publish events through the
+	 * {@link ApplicationContext}.
+	 * 
+	 * @param eventBus The {@link RepositoryEventBus} used to publish
+	 *          {@link org.springframework.data.rest.core.event.RepositoryEvent}s.
+	 */
+	protected void configureRepositoryEventBus(RepositoryEventBus eventBus) {}
+
 	/**
 	 * Configure the {@link ExceptionHandlerExceptionResolver}.
 	 * 
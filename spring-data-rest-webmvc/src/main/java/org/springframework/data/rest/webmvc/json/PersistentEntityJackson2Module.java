@@ -12,10 +12,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mapping.Association;
@@ -31,6 +32,8 @@ import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
 import org.springframework.data.rest.webmvc.support.RepositoryLinkBuilder;
 import org.springframework.hateoas.Link;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -42,8 +45,15 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
@@ -51,7 +61,7 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 /**
  * @author Jon Brisbin
  */
-public class PersistentEntityJackson2Module extends SimpleModule implements InitializingBean {
+public class PersistentEntityJackson2Module extends SimpleModule {
 
 	private static final long serialVersionUID = -7289265674870906323L;
 	private static final Logger LOG = LoggerFactory.getLogger(PersistentEntityJackson2Module.class);
@@ -59,6 +69,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 	@Autowired private Repositories repositories;
 	@Autowired private RepositoryRestConfiguration config;
 	@Autowired private UriDomainClassConverter uriDomainClassConverter;
+	@Autowired private LinkTemplates linkTemplates;
+	@Autowired(required = false) private JpaHelper jpaHelper;
 	private final ResourceMappings mappings;
 
 	public PersistentEntityJackson2Module(ResourceMappings resourceMappings) {
@@ -72,165 +84,328 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 	public static boolean maybeAddAssociationLink(RepositoryLinkBuilder builder, ResourceMappings mappings,
 			PersistentProperty<?> persistentProperty, List<Link> links) {
 
+		ResourceMapping propertyMapping = getExportedAssociationMapping(mappings, persistentProperty);
+
+		if (propertyMapping == null) {
+			// This is not an association. No Link was added.
+			return false;
+		}
+
+		links.add(builder.slash(propertyMapping.getPath()).withRel(propertyMapping.getRel()));
+		return true;
+	}
+
+	/**
+	 * Adds a link to the given association resource to the given {@link List} of {@link Link}s by appending the
+	 * association's path to the given href of the owning item resource.
+	 * 
+	 * @param itemHref the href of the item resource owning the association, must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param persistentProperty must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @return whether a {@link Link} was added.
+	 */
+	public static boolean maybeAddAssociationLink(String itemHref, ResourceMappings mappings,
+			PersistentProperty<?> persistentProperty, List<Link> links) {
+
+		ResourceMapping propertyMapping = getExportedAssociationMapping(mappings, persistentProperty);
+
+		if (propertyMapping == null) {
+			return false;
+		}
+
+		links.add(new Link(itemHref.concat(propertyMapping.getPath().toString()), propertyMapping.getRel()));
+		return true;
+	}
+
+	private static ResourceMapping getExportedAssociationMapping(ResourceMappings mappings,
+			PersistentProperty<?> persistentProperty) {
+
 		Assert.isTrue(persistentProperty.isAssociation(), "PersistentProperty must be an association!");
 		ResourceMetadata ownerMetadata = mappings.getMappingFor(persistentProperty.getOwner().getType());
 
 		if (!ownerMetadata.isManagedResource(persistentProperty)) {
-			return false;
+			return null;
 		}
 
 		ResourceMapping propertyMapping = ownerMetadata.getMappingFor(persistentProperty);
+		return propertyMapping.isExported() ? propertyMapping : null;
+	}
 
-		if (propertyMapping.isExported()) {
-			links.add(builder.slash(propertyMapping.getPath()).withRel(propertyMapping.getRel()));
-			// This is an association. We added a Link.
-			return true;
-		}
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.module.SimpleModule#setupModule(com.fasterxml.jackson.databind.Module.SetupContext)
+	 */
+	@Override
+	public void setupModule(SetupContext context) {
 
-		// This is not an association. No Link was added.
-		return false;
+		super.setupModule(context);
+		context.addDeserializers(new ResourceDeserializers());
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	@Override
-	public void afterPropertiesSet() throws Exception {
-		for (Class<?> domainType : repositories) {
-			PersistentEntity<?, ?> pe = repositories.getPersistentEntity(domainType);
-			if (null == pe) {
-				if (LOG.isWarnEnabled()) {
-					LOG.warn("The domain class {} does not have PersistentEntity metadata.", domainType.getName());
-				}
-			} else {
-				addDeserializer(domainType, new ResourceDeserializer(pe));
+	/**
+	 * {@link Deserializers} creating {@link ResourceDeserializer}s for domain types managed by a repository. The table of
+	 * properties a deserializer reads is computed the first time a type is requested and shared between all
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper}s the module is registered with.
+	 * 
+	 * @author agent
+	 */
+	private class ResourceDeserializers extends Deserializers.Base {
+
+		private final ConcurrentMap<Class<?>, Map<String, PersistentProperty<?>>> properties = new ConcurrentHashMap<Class<?>, Map<String, PersistentProperty<?>>>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.Deserializers.Base#findBeanDeserializer(com.fasterxml.jackson.databind.JavaType, com.fasterxml.jackson.databind.DeserializationConfig, com.fasterxml.jackson.databind.BeanDescription)
+		 */
+		@Override
+		public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config,
+				BeanDescription beanDesc) {
+
+			Class<?> domainType = type.getRawClass();
+			Map<String, PersistentProperty<?>> domainTypeProperties = properties.get(domainType);
+
+			if (domainTypeProperties != null) {
+				return new ResourceDeserializer<Object>(domainType, domainTypeProperties);
+			}
+
+			if (!repositories.hasRepositoryFor(domainType)) {
+				return null;
+			}
+
+			PersistentEntity<?, ?> persistentEntity = repositories.getPersistentEntity(domainType);
+
+			if (persistentEntity == null) {
+				LOG.warn("The domain class {} does not have PersistentEntity metadata.", domainType.getName());
+				return null;
 			}
+
+			domainTypeProperties = getProperties(persistentEntity);
+			Map<String, PersistentProperty<?>> existing = properties.putIfAbsent(domainType, domainTypeProperties);
+
+			return new ResourceDeserializer<Object>(domainType, existing == null ? domainTypeProperties : existing);
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private Map<String, PersistentProperty<?>> getProperties(PersistentEntity<?, ?> persistentEntity) {
+
+			final Map<String, PersistentProperty<?>> result = new HashMap<String, PersistentProperty<?>>();
+
+			persistentEntity.doWithProperties(new PropertyHandler() {
+
+				@Override
+				public void doWithPersistentProperty(PersistentProperty property) {
+					result.put(property.getName(), property);
+				}
+			});
+
+			persistentEntity.doWithAssociations(new AssociationHandler() {
+
+				@Override
+				public void doWithAssociation(Association association) {
+					PersistentProperty<?> property = association.getInverse();
+					result.put(property.getName(), property);
+				}
+			});
+
+			return result;
 		}
 	}
 
-	private class ResourceDeserializer<T extends Object> extends StdDeserializer<T> {
+	/**
+	 * Deserializer for domain types that looks up fields in a precomputed table of {@link ResourceProperty}s holding the
+	 * {@link JsonDeserializer}s to use for their values. Those are resolved once per
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper} which caches the deserializer. Fields not backed by a
+	 * {@link PersistentProperty} are skipped without being parsed into values.
+	 * 
+	 * @author Jon Brisbin
+	 * @author agent
+	 */
+	private class ResourceDeserializer<T extends Object> extends StdDeserializer<T> implements ResolvableDeserializer {
 
 		private static final long serialVersionUID = 8195592798684027681L;
-		private final PersistentEntity<?, ?> persistentEntity;
 
-		private ResourceDeserializer(final PersistentEntity<?, ?> persistentEntity) {
-			super(persistentEntity.getType());
-			this.persistentEntity = persistentEntity;
+		private final Map<String, PersistentProperty<?>> persistentProperties;
+		private final Map<String, ResourceProperty> properties = new HashMap<String, ResourceProperty>();
+
+		private ResourceDeserializer(Class<?> type, Map<String, PersistentProperty<?>> persistentProperties) {
+
+			super(type);
+			this.persistentProperties = persistentProperties;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.deser.ResolvableDeserializer#resolve(com.fasterxml.jackson.databind.DeserializationContext)
+		 */
+		@Override
+		public void resolve(DeserializationContext ctxt) throws JsonMappingException {
+
+			for (PersistentProperty<?> property : persistentProperties.values()) {
+				properties.put(property.getName(), new ResourceProperty(property, ctxt));
+			}
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#isCachable()
+		 */
+		@Override
+		public boolean isCachable() {
+			return true;
 		}
 
-		@SuppressWarnings({ "unchecked", "incomplete-switch", "null", "unused" })
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonDeserializer#deserialize(com.fasterxml.jackson.core.JsonParser, com.fasterxml.jackson.databind.DeserializationContext)
+		 */
 		@Override
+		@SuppressWarnings("unchecked")
 		public T deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException, JsonProcessingException {
+
 			Object entity = instantiateClass(getValueClass());
 			BeanWrapper<?, Object> wrapper = BeanWrapper.create(entity, null);
+			boolean reference = false;
+
+			JsonToken tok = jp.getCurrentToken();
+
+			if (tok == JsonToken.START_OBJECT) {
+				tok = jp.nextToken();
+			}
 
-			ResourceMetadata metadata = mappings.getMappingFor(getValueClass());
+			for (; tok == JsonToken.FIELD_NAME; tok = jp.nextToken()) {
 
-			for (JsonToken tok = jp.nextToken(); tok != JsonToken.END_OBJECT; tok = jp.nextToken()) {
 				String name = jp.getCurrentName();
-				switch (tok) {
-					case FIELD_NAME: {
-						if ("href".equals(name)) {
-							URI uri = URI.create(jp.nextTextValue());
-							TypeDescriptor entityType = TypeDescriptor.forObject(entity);
-							if (uriDomainClassConverter.matches(URI_TYPE, entityType)) {
-								entity = uriDomainClassConverter.convert(uri, URI_TYPE, entityType);
-							}
+				tok = jp.nextToken();
 
-							continue;
-						}
+				if ("href".equals(name)) {
 
-						if ("rel".equals(name)) {
-							// rel is currently ignored
-							continue;
-						}
+					if (tok != JsonToken.VALUE_NULL) {
 
-						PersistentProperty<?> persistentProperty = persistentEntity.getPersistentProperty(name);
-						if (null == persistentProperty) {
-							continue;
+						URI uri = URI.create(jp.getText());
+						TypeDescriptor entityType = TypeDescriptor.forObject(entity);
+
+						if (uriDomainClassConverter.matches(URI_TYPE, entityType)) {
+							entity = uriDomainClassConverter.convert(uri, URI_TYPE, entityType);
+							reference = true;
 						}
+					}
 
-						Object val = null;
+					continue;
+				}
 
-						if ("links".equals(name)) {
-							if ((tok = jp.nextToken()) == JsonToken.START_ARRAY) {
-								while ((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
-									// Advance past the links
-								}
-							} else if (tok == JsonToken.VALUE_NULL) {
-								// skip null value
-							} else {
-								throw new HttpMessageNotReadableException(
-										"Property 'links' is not of array type. Either eliminate this property from the document or make it an array.");
-							}
-							continue;
-						}
+				// rel is currently ignored, links are read-only, a referenced entity is never modified
+				ResourceProperty property = reference || "rel".equals(name) || "links".equals(name) ? null : properties
+						.get(name);
 
-						if (null == persistentProperty) {
-							// do nothing
-							continue;
-						}
+				if (property == null) {
+					jp.skipChildren();
+					continue;
+				}
 
-						// Try and read the value of this attribute.
-						// The method of doing that varies based on the type of the property.
-						if (persistentProperty.isCollectionLike()) {
-							Class<? extends Collection<?>> ctype = (Class<? extends Collection<?>>) persistentProperty.getType();
-							Collection<Object> c = (Collection<Object>) wrapper.getProperty(persistentProperty);
-							if (null == c || c == Collections.EMPTY_LIST || c == Collections.EMPTY_SET) {
-								if (Collection.class.isAssignableFrom(ctype)) {
-									c = new ArrayList<Object>();
-								} else if (Set.class.isAssignableFrom(ctype)) {
-									c = new HashSet<Object>();
-								}
-							}
+				wrapper.setProperty(property.persistentProperty, property.read(jp, ctxt, wrapper), false);
+			}
 
-							if ((tok = jp.nextToken()) == JsonToken.START_ARRAY) {
-								while ((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
-									Object cval = jp.readValueAs(persistentProperty.getComponentType());
-									c.add(cval);
-								}
+			if (tok != JsonToken.END_OBJECT) {
+				throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as " + getValueClass().getName()
+						+ "!");
+			}
 
-								val = c;
-							} else if (tok == JsonToken.VALUE_NULL) {
-								val = null;
-							} else {
-								throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Collection.");
-							}
-						} else if (persistentProperty.isMap()) {
-							Class<? extends Map<?, ?>> mtype = (Class<? extends Map<?, ?>>) persistentProperty.getType();
-							Map<Object, Object> m = (Map<Object, Object>) wrapper.getProperty(persistentProperty);
-							if (null == m || m == Collections.EMPTY_MAP) {
-								m = new HashMap<Object, Object>();
-							}
+			return (T) entity;
+		}
+	}
 
-							if ((tok = jp.nextToken()) == JsonToken.START_OBJECT) {
-								do {
-									name = jp.getCurrentName();
-									// TODO resolve domain object from URI
-									tok = jp.nextToken();
-									Object mval = jp.readValueAs(persistentProperty.getMapValueType());
-
-									m.put(name, mval);
-								} while ((tok = jp.nextToken()) != JsonToken.END_OBJECT);
-
-								val = m;
-							} else if (tok == JsonToken.VALUE_NULL) {
-								val = null;
-							} else {
-								throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Map.");
-							}
-						} else {
-							if ((tok = jp.nextToken()) != JsonToken.VALUE_NULL) {
-								val = jp.readValueAs(persistentProperty.getType());
-							}
-						}
+	/**
+	 * A {@link PersistentProperty} along with the {@link JsonDeserializer} for its value or, for collections and maps,
+	 * for their elements.
+	 * 
+	 * @author agent
+	 */
+	private static class ResourceProperty {
 
-						wrapper.setProperty(persistentProperty, val, false);
+		private final PersistentProperty<?> persistentProperty;
+		private final boolean collection;
+		private final JsonDeserializer<Object> deserializer;
 
-						break;
-					}
+		public ResourceProperty(PersistentProperty<?> persistentProperty, DeserializationContext ctxt)
+				throws JsonMappingException {
+
+			Class<?> type = persistentProperty.getType();
+
+			this.persistentProperty = persistentProperty;
+			this.collection = persistentProperty.isCollectionLike() && Collection.class.isAssignableFrom(type);
+
+			Class<?> valueType = collection ? persistentProperty.getComponentType() : persistentProperty.isMap() ? persistentProperty
+					.getMapValueType() : type;
+
+			this.deserializer = ctxt.findRootValueDeserializer(ctxt.constructType(valueType == null ? Object.class
+					: valueType));
+		}
+
+		/**
+		 * Reads the value of the property from the given {@link JsonParser} positioned at the value's first token.
+		 * 
+		 * @param jp must not be {@literal null}.
+		 * @param ctxt must not be {@literal null}.
+		 * @param wrapper the {@link BeanWrapper} for the entity to read the value for, must not be {@literal null}.
+		 * @return
+		 * @throws IOException
+		 */
+		@SuppressWarnings("unchecked")
+		public Object read(JsonParser jp, DeserializationContext ctxt, BeanWrapper<?, Object> wrapper) throws IOException {
+
+			JsonToken tok = jp.getCurrentToken();
+
+			if (tok == JsonToken.VALUE_NULL) {
+				return null;
+			}
+
+			if (collection) {
+
+				if (tok != JsonToken.START_ARRAY) {
+					throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Collection.");
+				}
+
+				Collection<Object> c = (Collection<Object>) wrapper.getProperty(persistentProperty);
+
+				if (null == c || c == Collections.EMPTY_LIST || c == Collections.EMPTY_SET) {
+					c = Set.class.isAssignableFrom(persistentProperty.getType()) ? new HashSet<Object>()
+							: new ArrayList<Object>();
+				}
+
+				while ((tok = jp.nextToken()) != JsonToken.END_ARRAY) {
+					c.add(readValue(tok, jp, ctxt));
 				}
+
+				return c;
 			}
 
-			return (T) entity;
+			if (persistentProperty.isMap()) {
+
+				if (tok != JsonToken.START_OBJECT) {
+					throw new HttpMessageNotReadableException("Cannot read a JSON " + tok + " as a Map.");
+				}
+
+				Map<Object, Object> m = (Map<Object, Object>) wrapper.getProperty(persistentProperty);
+
+				if (null == m || m == Collections.EMPTY_MAP) {
+					m = new HashMap<Object, Object>();
+				}
+
+				while ((tok = jp.nextToken()) == JsonToken.FIELD_NAME) {
+					// TODO resolve domain object from URI
+					String name = jp.getCurrentName();
+					m.put(name, readValue(jp.nextToken(), jp, ctxt));
+				}
+
+				return m;
+			}
+
+			return deserializer.deserialize(jp, ctxt);
+		}
+
+		private Object readValue(JsonToken tok, JsonParser jp, DeserializationContext ctxt) throws IOException {
+			return tok == JsonToken.VALUE_NULL ? deserializer.getNullValue() : deserializer.deserialize(jp, ctxt);
 		}
 	}
 
@@ -255,9 +430,8 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 
 			final BeanWrapper wrapper = BeanWrapper.create(obj, null);
 			final Object entityId = wrapper.getProperty(entity.getIdProperty());
-			final ResourceMappings mappings = new ResourceMappings(config, repositories);
-			final ResourceMetadata metadata = mappings.getMappingFor(entity.getType());
-			final RepositoryLinkBuilder builder = new RepositoryLinkBuilder(metadata, config.getBaseUri()).slash(entityId);
+			final String itemHref = entityId == null ? linkTemplates.getCollectionHref(entity.getType()) : linkTemplates
+					.getItemHref(entity.getType(), entityId);
 
 			final List<Link> links = new ArrayList<Link>();
 			// Start with ResourceProcessor-added links
@@ -276,7 +450,7 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 							return;
 						}
 
-						if (property.isEntity() && maybeAddAssociationLink(builder, mappings, property, links)) {
+						if (property.isEntity() && maybeAddAssociationLink(itemHref, mappings, property, links)) {
 							return;
 						}
 
@@ -298,10 +472,21 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 						PersistentProperty property = association.getInverse();
 
 						if (!mappings.isMapped(property)) {
+
+							Object id = config.isExposeNonExportedAssociationIds() ? getAssociatedId(wrapper, property) : null;
+
+							if (id != null) {
+								try {
+									jgen.writeObjectField(property.getName(), id);
+								} catch (IOException e) {
+									throw new IllegalStateException(e);
+								}
+							}
+
 							return;
 						}
 
-						if (maybeAddAssociationLink(builder, mappings, property, links)) {
+						if (maybeAddAssociationLink(itemHref, mappings, property, links)) {
 							return;
 						}
 						// Association Link was not added, probably because this isn't a managed type. Add value of property inline.
@@ -326,6 +511,40 @@ public class PersistentEntityJackson2Module extends SimpleModule implements Init
 				jgen.writeEndObject();
 			}
 		}
+
+		/**
+		 * Returns the identifier of the entity the given to-one association points to or {@literal null} if it's a
+		 * collection or the identifier cannot be determined without initializing a lazily loaded association.
+		 * 
+		 * @param wrapper must not be {@literal null}.
+		 * @param property must not be {@literal null}.
+		 * @return
+		 */
+		private Object getAssociatedId(BeanWrapper<?, ?> wrapper, PersistentProperty<?> property) {
+
+			if (property.isCollectionLike() || property.isMap()) {
+				return null;
+			}
+
+			PersistentEntity<?, ?> associatedEntity = repositories.getPersistentEntity(property.getActualType());
+
+			if (associatedEntity == null || associatedEntity.getIdProperty() == null) {
+				return null;
+			}
+
+			Object associated = wrapper.getProperty(property);
+
+			if (associated == null) {
+				return null;
+			}
+
+			// Calling the getter of the identifier might initialize the proxy
+			if (jpaHelper != null && !jpaHelper.isLoaded(associated)) {
+				return jpaHelper.getProxyIdentifier(associated);
+			}
+
+			return BeanWrapper.create(associated, null).getProperty(associatedEntity.getIdProperty());
+		}
 	}
 
 }
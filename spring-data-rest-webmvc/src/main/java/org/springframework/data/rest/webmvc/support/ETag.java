@@ -0,0 +1,219 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * An entity tag as used in {@code ETag} and {@code If-Match} headers. Entity tags derived from the version property of
+ * a domain object are created by an {@link ETagResolver}. As {@code If-Match} requires the strong comparison function
+ * (RFC 7232, section 3.1), weak entity tags never match.
+ * 
+ * @author agent
+ */
+public final class ETag {
+
+	public static final ETag NO_ETAG = new ETag(null, false);
+	public static final ETag ANY = new ETag("*", false);
+
+	private static final String WEAK_PREFIX = "W/";
+
+	private final String value;
+	private final boolean weak;
+
+	private ETag(String value, boolean weak) {
+		this.value = value;
+		this.weak = weak;
+	}
+
+	/**
+	 * Creates an {@link ETag} from the given single entity tag, stripping quotes and keeping track of a weak indicator.
+	 * 
+	 * @param value can be {@literal null}.
+	 * @return the {@link ETag}, {@link #ANY} for the wildcard or {@link #NO_ETAG} if the given value is empty.
+	 */
+	public static ETag from(String value) {
+
+		if (!StringUtils.hasText(value)) {
+			return NO_ETAG;
+		}
+
+		String trimmed = value.trim();
+
+		if (ANY.value.equals(trimmed)) {
+			return ANY;
+		}
+
+		boolean weak = trimmed.startsWith(WEAK_PREFIX);
+
+		if (weak) {
+			trimmed = trimmed.substring(WEAK_PREFIX.length());
+		}
+
+		if (trimmed.length() > 1 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+			trimmed = trimmed.substring(1, trimmed.length() - 1);
+		}
+
+		return new ETag(trimmed, weak);
+	}
+
+	/**
+	 * Creates the {@link ETag}s contained in the given header value, e.g. of an {@code If-Match} header listing multiple
+	 * comma-separated entity tags. Commas within quoted entity tags don't separate entity tags.
+	 * 
+	 * @param header can be {@literal null}.
+	 * @return the {@link ETag}s, an empty {@link List} if the given value is empty.
+	 */
+	public static List<ETag> fromHeader(String header) {
+
+		if (!StringUtils.hasText(header)) {
+			return Collections.emptyList();
+		}
+
+		List<ETag> result = new ArrayList<ETag>();
+		boolean quoted = false;
+		int start = 0;
+
+		for (int i = 0; i < header.length(); i++) {
+
+			char c = header.charAt(i);
+
+			if (c == '"') {
+				quoted = !quoted;
+			} else if (c == ',' && !quoted) {
+				addIfPresent(header.substring(start, i), result);
+				start = i + 1;
+			}
+		}
+
+		addIfPresent(header.substring(start), result);
+
+		return result;
+	}
+
+	/**
+	 * Creates a strong {@link ETag} for the given version value.
+	 * 
+	 * @param version must not be {@literal null}.
+	 * @return
+	 */
+	static ETag forVersion(Object version) {
+
+		Assert.notNull(version, "Version must not be null!");
+		return new ETag(version.toString(), false);
+	}
+
+	/**
+	 * Returns whether the {@link ETag} is a weak one.
+	 * 
+	 * @return
+	 */
+	public boolean isWeak() {
+		return weak;
+	}
+
+	/**
+	 * Returns whether the {@link ETag} matches the given one using the strong comparison function, i.e. both have to be
+	 * strong and have the same value.
+	 * 
+	 * @param other must not be {@literal null}.
+	 * @return
+	 */
+	public boolean matches(ETag other) {
+
+		Assert.notNull(other, "ETag must not be null!");
+
+		return value != null && !weak && !other.weak && value.equals(other.value);
+	}
+
+	/**
+	 * Adds the {@link ETag} to the given {@link HttpHeaders}, unless it's {@link #NO_ETAG}.
+	 * 
+	 * @param headers must not be {@literal null}.
+	 * @return the given headers.
+	 */
+	public HttpHeaders addTo(HttpHeaders headers) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+
+		if (this != NO_ETAG) {
+			headers.setETag(toString());
+		}
+
+		return headers;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof ETag)) {
+			return false;
+		}
+
+		ETag that = (ETag) obj;
+		return weak == that.weak && (value == null ? that.value == null : value.equals(that.value));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return (value == null ? 0 : value.hashCode()) + (weak ? 1 : 0);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		if (value == null) {
+			return "";
+		}
+
+		if (this == ANY) {
+			return value;
+		}
+
+		return (weak ? WEAK_PREFIX : "") + "\"" + value + "\"";
+	}
+
+	private static void addIfPresent(String candidate, List<ETag> result) {
+
+		ETag eTag = from(candidate);
+
+		if (eTag != NO_ETAG) {
+			result.add(eTag);
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.List;
+
+/**
+ * Exception being thrown if an {@code If-Match} precondition doesn't match the current version of an entity.
+ * 
+ * @author agent
+ */
+public class ETagDoesntMatchException extends RuntimeException {
+
+	private static final long serialVersionUID = -4206539938963547536L;
+
+	private final List<ETag> expected;
+	private final ETag current;
+
+	/**
+	 * Creates a new {@link ETagDoesntMatchException} for the given expected and current {@link ETag}s.
+	 * 
+	 * @param expected the {@link ETag}s the client sent.
+	 * @param current the {@link ETag} of the entity, {@link ETag#NO_ETAG} if it doesn't exist.
+	 */
+	public ETagDoesntMatchException(List<ETag> expected, ETag current) {
+
+		super(String.format("ETags %s don't match current ETag %s!", expected, current));
+
+		this.expected = expected;
+		this.current = current;
+	}
+
+	/**
+	 * Returns the {@link ETag}s the client sent.
+	 * 
+	 * @return
+	 */
+	public List<ETag> getExpectedETags() {
+		return expected;
+	}
+
+	/**
+	 * Returns the current {@link ETag} of the entity.
+	 * 
+	 * @return
+	 */
+	public ETag getCurrentETag() {
+		return current;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.model.BeanWrapper;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Derives {@link ETag}s from the version property of domain objects and verifies {@code If-Match} preconditions
+ * against them. Version properties are detected via Spring Data's {@link org.springframework.data.annotation.Version}
+ * and, if present, JPA's {@code javax.persistence.Version} annotation. The version property of a
+ * {@link PersistentEntity} is looked up once and cached.
+ * 
+ * @author agent
+ */
+public class ETagResolver {
+
+	private static final Class<? extends Annotation> JPA_VERSION = getJpaVersionAnnotation();
+	private static final Object NO_VERSION_PROPERTY = new Object();
+
+	private final ConcurrentMap<PersistentEntity<?, ?>, Object> versionProperties = new ConcurrentHashMap<PersistentEntity<?, ?>, Object>();
+
+	/**
+	 * Returns the {@link ETag} for the version property of the given bean.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @param bean can be {@literal null}.
+	 * @return the {@link ETag} or {@link ETag#NO_ETAG} if the bean is {@literal null}, its type doesn't have a version
+	 *         property or the version is not set.
+	 */
+	public ETag getETag(PersistentEntity<?, ?> entity, Object bean) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		PersistentProperty<?> versionProperty = getVersionProperty(entity);
+
+		if (bean == null || versionProperty == null) {
+			return ETag.NO_ETAG;
+		}
+
+		Object version = BeanWrapper.create(bean, null).getProperty(versionProperty);
+		return version == null ? ETag.NO_ETAG : ETag.forVersion(version);
+	}
+
+	/**
+	 * Verifies the given target matches one of the {@link ETag}s listed in the given {@code If-Match} header. Always
+	 * succeeds if no header is given and for existing targets without a version, the wildcard {@code *} only requires
+	 * the target to exist. Weak {@link ETag}s never match.
+	 * 
+	 * @param ifMatch the value of the {@code If-Match} header, can be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param target can be {@literal null}.
+	 * @throws ETagDoesntMatchException if the target doesn't exist or has a different version.
+	 */
+	public void verify(String ifMatch, PersistentEntity<?, ?> entity, Object target) {
+
+		List<ETag> expected = ETag.fromHeader(ifMatch);
+
+		if (expected.isEmpty()) {
+			return;
+		}
+
+		ETag current = getETag(entity, target);
+
+		if (target != null) {
+
+			if (current == ETag.NO_ETAG) {
+				return;
+			}
+
+			for (ETag eTag : expected) {
+				if (eTag == ETag.ANY || eTag.matches(current)) {
+					return;
+				}
+			}
+		}
+
+		throw new ETagDoesntMatchException(expected, current);
+	}
+
+	private PersistentProperty<?> getVersionProperty(PersistentEntity<?, ?> entity) {
+
+		Object versionProperty = versionProperties.get(entity);
+
+		if (versionProperty == null) {
+			versionProperty = lookupVersionProperty(entity);
+			versionProperties.put(entity, versionProperty == null ? NO_VERSION_PROPERTY : versionProperty);
+		}
+
+		return versionProperty == NO_VERSION_PROPERTY ? null : (PersistentProperty<?>) versionProperty;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static PersistentProperty<?> lookupVersionProperty(PersistentEntity<?, ?> entity) {
+
+		if (entity.hasVersionProperty()) {
+			return entity.getVersionProperty();
+		}
+
+		if (JPA_VERSION == null) {
+			return null;
+		}
+
+		final PersistentProperty<?>[] result = new PersistentProperty<?>[1];
+
+		entity.doWithProperties(new PropertyHandler() {
+
+			@Override
+			public void doWithPersistentProperty(PersistentProperty property) {
+
+				Field field = property.getField();
+				Method getter = property.getGetter();
+
+				if ((field != null && field.isAnnotationPresent(JPA_VERSION))
+						|| (getter != null && getter.isAnnotationPresent(JPA_VERSION))) {
+					result[0] = property;
+				}
+			}
+		});
+
+		return result[0];
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Class<? extends Annotation> getJpaVersionAnnotation() {
+
+		ClassLoader classLoader = ETagResolver.class.getClassLoader();
+
+		if (!ClassUtils.isPresent("javax.persistence.Version", classLoader)) {
+			return null;
+		}
+
+		return (Class<? extends Annotation>) ClassUtils.resolveClassName("javax.persistence.Version", classLoader);
+	}
+}
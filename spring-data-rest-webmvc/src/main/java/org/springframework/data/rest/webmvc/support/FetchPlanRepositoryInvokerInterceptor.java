@@ -0,0 +1,72 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collections;
+
+import org.springframework.data.rest.core.invoke.RepositoryInvocation;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryInvokerInterceptor} to apply the fetch plan of the {@link JpaFetchPlanner} to the entities read from
+ * a repository, so that the attributes rendered inline are loaded for all of them at once.
+ * 
+ * @author agent
+ */
+public class FetchPlanRepositoryInvokerInterceptor implements RepositoryInvokerInterceptor {
+
+	private final JpaFetchPlanner planner;
+
+	/**
+	 * Creates a new {@link FetchPlanRepositoryInvokerInterceptor} using the given {@link JpaFetchPlanner}.
+	 * 
+	 * @param planner must not be {@literal null}.
+	 */
+	public FetchPlanRepositoryInvokerInterceptor(JpaFetchPlanner planner) {
+
+		Assert.notNull(planner, "JpaFetchPlanner must not be null!");
+		this.planner = planner;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor#invoke(org.springframework.data.rest.core.invoke.RepositoryInvocation)
+	 */
+	@Override
+	public Object invoke(RepositoryInvocation invocation) {
+
+		Object result = invocation.proceed();
+
+		if (result == null) {
+			return null;
+		}
+
+		switch (invocation.getOperation()) {
+
+			case FIND_ONE:
+			case FIND_ALL:
+			case QUERY_METHOD:
+				planner.apply(invocation.getDomainType(),
+						result instanceof Iterable ? (Iterable<?>) result : Collections.singleton(result));
+				break;
+
+			default:
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
+
+import org.springframework.data.mapping.Association;
+import org.springframework.data.mapping.AssociationHandler;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Loads the lazily loaded attributes of JPA entities that are rendered inline in their representation for a whole
+ * collection of entities at once, so that rendering a page of entities doesn't trigger a lazy load per entity.
+ * <p/>
+ * The attributes to load for a domain type, its fetch plan, are derived from the {@link ResourceMappings}. Associations
+ * to exported domain types are rendered as links and associations to domain types that are not exported are not
+ * rendered at all, so neither needs to be loaded. Collections of basic or embeddable values and associations to types
+ * not managed by a repository are rendered inline and thus are part of the plan. Each of those is loaded with a single
+ * fetch join query for all entities handed in that are managed by the current {@link EntityManager}.
+ * 
+ * @author agent
+ */
+public class JpaFetchPlanner {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final Repositories repositories;
+	private final ResourceMappings mappings;
+	private final Collection<EntityManagerFactory> factories;
+	private final ConcurrentMap<Class<?>, FetchPlan> plans = new ConcurrentHashMap<Class<?>, FetchPlan>();
+
+	/**
+	 * Creates a new {@link JpaFetchPlanner}.
+	 * 
+	 * @param repositories must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param factories the {@link EntityManagerFactory}s managing the domain types, must not be {@literal null}.
+	 */
+	public JpaFetchPlanner(Repositories repositories, ResourceMappings mappings,
+			Collection<EntityManagerFactory> factories) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(factories, "EntityManagerFactories must not be null!");
+
+		this.repositories = repositories;
+		this.mappings = mappings;
+		this.factories = factories;
+	}
+
+	/**
+	 * Returns the names of the attributes of the given domain type that are rendered inline and might be loaded lazily.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public List<String> getFetchPlan(Class<?> domainType) {
+		return getPlanFor(domainType).attributes;
+	}
+
+	/**
+	 * Loads the attributes of the fetch plan of the given domain type for all given entities that haven't been loaded
+	 * yet. Entities not managed by the {@link EntityManager} bound to the current thread are skipped, so are all entities
+	 * if there's none bound.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 */
+	public void apply(Class<?> domainType, Iterable<?> entities) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(entities, "Entities must not be null!");
+
+		FetchPlan plan = getPlanFor(domainType);
+
+		if (plan.attributes.isEmpty()) {
+			return;
+		}
+
+		EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(plan.factory);
+
+		if (em == null) {
+			return;
+		}
+
+		PersistenceUnitUtil util = plan.factory.getPersistenceUnitUtil();
+
+		for (String attribute : plan.attributes) {
+
+			List<Object> pending = new ArrayList<Object>();
+
+			for (Object entity : entities) {
+				if (domainType.isInstance(entity) && em.contains(entity) && !util.isLoaded(entity, attribute)) {
+					pending.add(entity);
+				}
+			}
+
+			String query = String.format("select distinct e from %s e left join fetch e.%s where e in :entities",
+					plan.entityName, attribute);
+
+			for (int i = 0; i < pending.size(); i += BATCH_SIZE) {
+				em.createQuery(query).setParameter("entities", pending.subList(i, Math.min(i + BATCH_SIZE, pending.size())))
+						.getResultList();
+			}
+		}
+	}
+
+	private FetchPlan getPlanFor(Class<?> domainType) {
+
+		FetchPlan plan = plans.get(domainType);
+
+		if (plan == null) {
+			plan = createPlanFor(domainType);
+			plans.put(domainType, plan);
+		}
+
+		return plan;
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private FetchPlan createPlanFor(Class<?> domainType) {
+
+		PersistentEntity<?, ?> entity = repositories.getPersistentEntity(domainType);
+		final ResourceMetadata metadata = mappings.getMappingFor(domainType);
+
+		if (entity == null || metadata == null) {
+			return FetchPlan.NONE;
+		}
+
+		for (EntityManagerFactory factory : factories) {
+
+			final EntityType<?> entityType = getEntityType(factory, domainType);
+
+			if (entityType == null) {
+				continue;
+			}
+
+			final List<String> attributes = new ArrayList<String>();
+
+			entity.doWithProperties(new PropertyHandler() {
+
+				@Override
+				public void doWithPersistentProperty(PersistentProperty property) {
+					if (isLazilyLoadable(entityType, property)) {
+						attributes.add(property.getName());
+					}
+				}
+			});
+
+			entity.doWithAssociations(new AssociationHandler() {
+
+				@Override
+				public void doWithAssociation(Association association) {
+
+					PersistentProperty property = association.getInverse();
+
+					// Mirrors PersistentEntityJackson2Module, which renders these inline
+					if (mappings.isMapped(property) && !metadata.isManagedResource(property)
+							&& isLazilyLoadable(entityType, property)) {
+						attributes.add(property.getName());
+					}
+				}
+			});
+
+			return new FetchPlan(factory, entityType.getName(), attributes);
+		}
+
+		return FetchPlan.NONE;
+	}
+
+	private static EntityType<?> getEntityType(EntityManagerFactory factory, Class<?> domainType) {
+
+		try {
+			return factory.getMetamodel().entity(domainType);
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static boolean isLazilyLoadable(EntityType<?> entityType, PersistentProperty<?> property) {
+
+		try {
+			Attribute<?, ?> attribute = entityType.getAttribute(property.getName());
+			return attribute.isCollection() || attribute.isAssociation();
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * The attributes to load for a domain type along with the {@link EntityManagerFactory} managing it.
+	 * 
+	 * @author agent
+	 */
+	private static class FetchPlan {
+
+		static final FetchPlan NONE = new FetchPlan(null, null, Collections.<String> emptyList());
+
+		final EntityManagerFactory factory;
+		final String entityName;
+		final List<String> attributes;
+
+		FetchPlan(EntityManagerFactory factory, String entityName, List<String> attributes) {
+
+			this.factory = factory;
+			this.entityName = entityName;
+			this.attributes = Collections.unmodifiableList(attributes);
+		}
+	}
+}
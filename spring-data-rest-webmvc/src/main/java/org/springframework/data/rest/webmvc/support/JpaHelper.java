@@ -1,8 +1,15 @@
 package org.springframework.data.rest.webmvc.support;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
 import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -10,14 +17,56 @@ import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanFactoryUtils;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.context.request.WebRequestInterceptor;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
 
 /**
  * @author Jon Brisbin
+ * @author agent
  */
 public class JpaHelper implements BeanFactoryAware {
 
+	private static final Class<?> HIBERNATE_PROXY_TYPE;
+	private static final Method GET_LAZY_INITIALIZER;
+	private static final Method GET_IDENTIFIER;
+	private static final HandlerInterceptor NO_INTERCEPTOR = new HandlerInterceptorAdapter() {};
+
+	static {
+
+		ClassLoader classLoader = JpaHelper.class.getClassLoader();
+
+		if (ClassUtils.isPresent("org.hibernate.proxy.HibernateProxy", classLoader)) {
+			HIBERNATE_PROXY_TYPE = ClassUtils.resolveClassName("org.hibernate.proxy.HibernateProxy", classLoader);
+			GET_LAZY_INITIALIZER = ReflectionUtils.findMethod(HIBERNATE_PROXY_TYPE, "getHibernateLazyInitializer");
+			GET_IDENTIFIER = ReflectionUtils.findMethod(GET_LAZY_INITIALIZER.getReturnType(), "getIdentifier");
+		} else {
+			HIBERNATE_PROXY_TYPE = null;
+			GET_LAZY_INITIALIZER = null;
+			GET_IDENTIFIER = null;
+		}
+	}
+
 	private List<WebRequestInterceptor> interceptor = new ArrayList<WebRequestInterceptor>();
+	private List<EntityManagerFactory> factories = new ArrayList<EntityManagerFactory>();
+	private List<PersistenceUnitUtil> persistenceUnitUtils = new ArrayList<PersistenceUnitUtil>();
+	private ConcurrentMap<Class<?>, HandlerInterceptor> handlerInterceptors = new ConcurrentHashMap<Class<?>, HandlerInterceptor>();
+	private boolean closeEntityManagerAfterSerialization = false;
+
+	/**
+	 * Configures whether the {@link javax.persistence.EntityManager} opened for a request shall be closed as soon as the
+	 * handler has written the response instead of once the request has been completed. Defaults to {@literal false}.
+	 * 
+	 * @param closeEntityManagerAfterSerialization
+	 */
+	public void setCloseEntityManagerAfterSerialization(boolean closeEntityManagerAfterSerialization) {
+		this.closeEntityManagerAfterSerialization = closeEntityManagerAfterSerialization;
+	}
 
 	@Override
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
@@ -28,11 +77,123 @@ public class JpaHelper implements BeanFactoryAware {
 			OpenEntityManagerInViewInterceptor omivi = new OpenEntityManagerInViewInterceptor();
 			omivi.setEntityManagerFactory(emf);
 			interceptor.add(omivi);
+			factories.add(emf);
+			persistenceUnitUtils.add(emf.getPersistenceUnitUtil());
 		}
 	}
 
-	public List<WebRequestInterceptor> getInterceptors() {
-		return interceptor;
+	/**
+	 * Returns the {@link HandlerInterceptor} keeping an {@link javax.persistence.EntityManager} open for requests to the
+	 * repository of the given domain type. Only opens one for the {@link EntityManagerFactory} managing the type, so that
+	 * requests to repositories of other stores don't open any.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return the {@link HandlerInterceptor} or {@literal null} if the domain type is not managed by JPA.
+	 */
+	public HandlerInterceptor getInterceptorFor(Class<?> domainType) {
+
+		HandlerInterceptor handlerInterceptor = handlerInterceptors.get(domainType);
+
+		if (handlerInterceptor == null) {
+			handlerInterceptor = createInterceptorFor(domainType);
+			handlerInterceptors.put(domainType, handlerInterceptor);
+		}
+
+		return handlerInterceptor == NO_INTERCEPTOR ? null : handlerInterceptor;
+	}
+
+	private HandlerInterceptor createInterceptorFor(Class<?> domainType) {
+
+		for (int i = 0; i < factories.size(); i++) {
+
+			try {
+				factories.get(i).getMetamodel().managedType(domainType);
+			} catch (IllegalArgumentException e) {
+				continue;
+			}
+
+			WebRequestInterceptor delegate = interceptor.get(i);
+			return closeEntityManagerAfterSerialization ? new ClosingAfterHandlingInterceptor(delegate)
+					: new WebRequestHandlerInterceptorAdapter(delegate);
+		}
+
+		return NO_INTERCEPTOR;
 	}
 
+	/**
+	 * Returns whether the given entity has been loaded, i.e. whether it's not an uninitialized lazy loading proxy.
+	 * 
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isLoaded(Object entity) {
+
+		for (PersistenceUnitUtil util : persistenceUnitUtils) {
+			if (!util.isLoaded(entity)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the identifier of the given lazy loading proxy without initializing it. Only Hibernate proxies are
+	 * supported as {@link PersistenceUnitUtil#getIdentifier(Object)} initializes them.
+	 * 
+	 * @param proxy must not be {@literal null}.
+	 * @return the identifier or {@literal null} if the given object is not a supported proxy.
+	 */
+	public Object getProxyIdentifier(Object proxy) {
+
+		if (HIBERNATE_PROXY_TYPE == null || !HIBERNATE_PROXY_TYPE.isInstance(proxy)) {
+			return null;
+		}
+
+		return ReflectionUtils.invokeMethod(GET_IDENTIFIER, ReflectionUtils.invokeMethod(GET_LAZY_INITIALIZER, proxy));
+	}
+
+	/**
+	 * Closes the {@link javax.persistence.EntityManager} opened by the given {@link OpenEntityManagerInViewInterceptor}
+	 * right after the handler has written the response. Falls back to closing it on request completion if the handler
+	 * failed.
+	 * 
+	 * @author agent
+	 */
+	private static class ClosingAfterHandlingInterceptor extends WebRequestHandlerInterceptorAdapter {
+
+		private final String closedAttributeName;
+
+		public ClosingAfterHandlingInterceptor(WebRequestInterceptor delegate) {
+
+			super(delegate);
+			this.closedAttributeName = ObjectUtils.identityToString(delegate) + ".CLOSED";
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter#postHandle(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, java.lang.Object, org.springframework.web.servlet.ModelAndView)
+		 */
+		@Override
+		public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+				ModelAndView modelAndView) throws Exception {
+
+			super.postHandle(request, response, handler, modelAndView);
+			super.afterCompletion(request, response, handler, null);
+			request.setAttribute(closedAttributeName, Boolean.TRUE);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter#afterCompletion(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, java.lang.Object, java.lang.Exception)
+		 */
+		@Override
+		public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex)
+				throws Exception {
+
+			if (request.getAttribute(closedAttributeName) == null) {
+				super.afterCompletion(request, response, handler, ex);
+			}
+		}
+	}
 }
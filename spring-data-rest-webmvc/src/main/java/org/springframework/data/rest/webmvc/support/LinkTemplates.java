@@ -0,0 +1,200 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.RepositoryController;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.mvc.ControllerLinkBuilder;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * Creates the hrefs of repository resources by plain {@link String} concatenation instead of building every single one
+ * through a {@link org.springframework.web.util.UriComponentsBuilder}. A configured base URI is parsed only once, one
+ * derived from the request is resolved once per request. The path of each repository is resolved once per domain type. Renders root-relative hrefs if configured via
+ * {@link RepositoryRestConfiguration#setRelativeLinks(boolean)}.
+ * 
+ * @author agent
+ */
+public class LinkTemplates {
+
+	public static final String BASE_REL = "base";
+
+	private final ResourceMappings mappings;
+	private final RepositoryRestConfiguration config;
+	private final ConcurrentMap<Class<?>, String> paths = new ConcurrentHashMap<Class<?>, String>();
+	private final String baseAttribute;
+
+	private volatile Base configuredBase;
+
+	/**
+	 * Creates a new {@link LinkTemplates} for the given {@link ResourceMappings} and {@link RepositoryRestConfiguration}.
+	 * 
+	 * @param mappings must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 */
+	public LinkTemplates(ResourceMappings mappings, RepositoryRestConfiguration config) {
+
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(config, "RepositoryRestConfiguration must not be null!");
+
+		this.mappings = mappings;
+		this.config = config;
+		this.baseAttribute = ObjectUtils.identityToString(this) + ".BASE";
+	}
+
+	/**
+	 * Returns the base URI all repository resources are exposed under, without a trailing slash. Uses the configured
+	 * base URI or derives it from the current request, in which case it's calculated only once per request. Only
+	 * contains the path if {@link RepositoryRestConfiguration#isRelativeLinks()} is enabled.
+	 * 
+	 * @return
+	 */
+	public String getBaseHref() {
+
+		Base base = getBase();
+		return config.isRelativeLinks() ? base.path : base.href;
+	}
+
+	/**
+	 * Returns the {@link Link} with the rel {@value #BASE_REL} pointing to the scheme, host and port relative hrefs have
+	 * to be resolved against.
+	 * 
+	 * @return the {@link Link} or {@literal null} if links are rendered absolute or the base URI is relative.
+	 */
+	public Link getBaseLink() {
+
+		if (!config.isRelativeLinks()) {
+			return null;
+		}
+
+		Base base = getBase();
+		return base.origin == null ? null : new Link(base.origin, BASE_REL);
+	}
+
+	/**
+	 * Returns the href of the collection resource of the repository exposing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public String getCollectionHref(Class<?> domainType) {
+		return getBaseHref().concat(getPath(domainType));
+	}
+
+	/**
+	 * Returns the href of the item resource with the given id of the repository exposing the given domain type.
+	 * 
+	 * @param domainType must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @return
+	 */
+	public String getItemHref(Class<?> domainType, Object id) {
+
+		Assert.notNull(id, "Id must not be null!");
+
+		return getCollectionHref(domainType).concat("/").concat(encode(id.toString()));
+	}
+
+	private Base getBase() {
+
+		URI baseUri = config.getBaseUri();
+
+		if (baseUri != null) {
+
+			Base base = configuredBase;
+
+			// The configuration might be changed at runtime
+			if (base == null || !baseUri.equals(base.uri)) {
+				base = new Base(baseUri.toString(), baseUri);
+				configuredBase = base;
+			}
+
+			return base;
+		}
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		Object cached = attributes == null ? null : attributes.getAttribute(baseAttribute, RequestAttributes.SCOPE_REQUEST);
+
+		if (cached != null) {
+			return (Base) cached;
+		}
+
+		Base base = new Base(ControllerLinkBuilder.linkTo(RepositoryController.class).toString(), null);
+
+		if (attributes != null) {
+			attributes.setAttribute(baseAttribute, base, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		return base;
+	}
+
+	private String getPath(Class<?> domainType) {
+
+		String path = paths.get(domainType);
+
+		if (path == null) {
+			path = mappings.getMappingFor(domainType).getPath().toString();
+			paths.put(domainType, path);
+		}
+
+		return path;
+	}
+
+	private static String encode(String segment) {
+
+		try {
+			return UriUtils.encodePath(segment, "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * The base URI split into the parts needed to render absolute and root-relative hrefs. Keeps the configured base URI
+	 * it was created from, if any.
+	 * 
+	 * @author agent
+	 */
+	private static class Base {
+
+		final URI uri;
+		final String href;
+		final String path;
+		final String origin;
+
+		public Base(String href, URI configured) {
+
+			this.uri = configured;
+			this.href = href.endsWith("/") ? href.substring(0, href.length() - 1) : href;
+
+			URI parsed = URI.create(this.href);
+
+			this.origin = parsed.getScheme() == null ? null : parsed.getScheme() + "://" + parsed.getRawAuthority();
+			this.path = origin == null ? this.href : this.href.substring(origin.length());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.data.rest.core.metrics.MetricsRegistry;
+import org.springframework.data.rest.core.metrics.OperationMetrics;
+import org.springframework.util.Assert;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.handler.HandlerInterceptorAdapter;
+
+/**
+ * {@link org.springframework.web.servlet.HandlerInterceptor} to record {@link OperationMetrics} for all controller
+ * methods invoked. Metrics are grouped by controller type and named after the signature of the controller method.
+ * Requests that fail with an exception or a server error status are counted as errors.
+ * 
+ * @author agent
+ */
+public class MetricsHandlerInterceptor extends HandlerInterceptorAdapter {
+
+	private static final String START_ATTRIBUTE = MetricsHandlerInterceptor.class.getName() + ".START";
+
+	private final MetricsRegistry registry;
+	private final ConcurrentMap<Method, OperationMetrics> metrics = new ConcurrentHashMap<Method, OperationMetrics>();
+
+	/**
+	 * Creates a new {@link MetricsHandlerInterceptor} recording into the given {@link MetricsRegistry}.
+	 * 
+	 * @param registry must not be {@literal null}.
+	 */
+	public MetricsHandlerInterceptor(MetricsRegistry registry) {
+
+		Assert.notNull(registry, "MetricsRegistry must not be null!");
+		this.registry = registry;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.handler.HandlerInterceptorAdapter#preHandle(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, java.lang.Object)
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+
+		if (handler instanceof HandlerMethod) {
+			request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.handler.HandlerInterceptorAdapter#afterCompletion(javax.servlet.http.HttpServletRequest, javax.servlet.http.HttpServletResponse, java.lang.Object, java.lang.Exception)
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+
+		Object start = request.getAttribute(START_ATTRIBUTE);
+
+		if (!(start instanceof Long) || !(handler instanceof HandlerMethod)) {
+			return;
+		}
+
+		long duration = System.nanoTime() - (Long) start;
+		boolean failed = ex != null || response.getStatus() >= 500;
+
+		getMetricsFor((HandlerMethod) handler).record(duration, failed);
+	}
+
+	private OperationMetrics getMetricsFor(HandlerMethod handlerMethod) {
+
+		Method method = handlerMethod.getMethod();
+		OperationMetrics operationMetrics = metrics.get(method);
+
+		if (operationMetrics == null) {
+			operationMetrics = registry.getMetrics(handlerMethod.getBeanType().getName(), method);
+			metrics.putIfAbsent(method, operationMetrics);
+		}
+
+		return operationMetrics;
+	}
+}
@@ -1,10 +1,13 @@
 package org.springframework.data.rest.webmvc.support;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.hateoas.Identifiable;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkBuilder;
 import org.springframework.hateoas.core.AbstractEntityLinks;
@@ -18,16 +21,28 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 
 	private final Repositories repositories;
 	private final ResourceMappings mappings;
-	private final RepositoryRestConfiguration config;
+	private final LinkTemplates templates;
 
 	@Autowired
 	public RepositoryEntityLinks(Repositories repositories, ResourceMappings mappings, RepositoryRestConfiguration config) {
+		this(repositories, mappings, new LinkTemplates(mappings, config));
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityLinks} using the given {@link LinkTemplates} to create links.
+	 * 
+	 * @param repositories must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param templates must not be {@literal null}.
+	 */
+	public RepositoryEntityLinks(Repositories repositories, ResourceMappings mappings, LinkTemplates templates) {
 
 		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(templates, "LinkTemplates must not be null!");
 
 		this.repositories = repositories;
 		this.mappings = mappings;
-		this.config = config;
+		this.templates = templates;
 	}
 
 	/*
@@ -47,7 +62,7 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	public LinkBuilder linkFor(Class<?> type) {
 
 		ResourceMetadata metadata = mappings.getMappingFor(type);
-		return new RepositoryLinkBuilder(metadata, config.getBaseUri());
+		return new RepositoryLinkBuilder(metadata, URI.create(templates.getBaseHref()));
 	}
 
 	/*
@@ -67,7 +82,7 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	public Link linkToCollectionResource(Class<?> type) {
 
 		ResourceMetadata metadata = mappings.getMappingFor(type);
-		return linkFor(type).withRel(metadata.getRel());
+		return new Link(templates.getCollectionHref(type), metadata.getRel());
 	}
 
 	/*
@@ -78,6 +93,11 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	public Link linkToSingleResource(Class<?> type, Object id) {
 
 		ResourceMetadata metadata = mappings.getMappingFor(type);
-		return linkFor(type).slash(id).withRel(metadata.getSingleResourceRel());
+
+		if (id == null || id instanceof Identifiable) {
+			return linkFor(type).slash(id).withRel(metadata.getSingleResourceRel());
+		}
+
+		return new Link(templates.getItemHref(type, id), metadata.getSingleResourceRel());
 	}
 }
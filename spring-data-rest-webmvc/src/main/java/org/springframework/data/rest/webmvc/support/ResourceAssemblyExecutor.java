@@ -0,0 +1,185 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Converts the elements of large collections on a bounded pool of threads while preserving their order. Used to turn
+ * the entities of large pages into resources and to run thread-safe
+ * {@link org.springframework.hateoas.ResourceProcessor}s on them. Collections smaller than the configured threshold are
+ * converted on the calling thread.
+ * <p/>
+ * The calling thread's {@link RequestAttributes} and {@link LocaleContext} are exposed to the worker threads so that
+ * links can be built from the current request. Converters must not rely on any other thread-bound state, e.g. lazily
+ * loading associations through a persistence context bound to the request thread.
+ * 
+ * @author agent
+ */
+public class ResourceAssemblyExecutor implements DisposableBean {
+
+	private final ThreadPoolExecutor executor;
+	private final int parallelism;
+	private final int threshold;
+
+	/**
+	 * Creates a new {@link ResourceAssemblyExecutor} using the given number of threads for collections with at least the
+	 * given number of elements.
+	 * 
+	 * @param parallelism the maximum number of threads to use, must be greater than 0.
+	 * @param threshold the minimum number of elements to convert in parallel, {@literal 0} to disable parallel
+	 *          conversion.
+	 */
+	public ResourceAssemblyExecutor(int parallelism, int threshold) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0!");
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+
+		this.parallelism = parallelism;
+		this.threshold = threshold;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("resource-assembly-");
+		threadFactory.setDaemon(true);
+
+		this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<Runnable>(), threadFactory);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Returns whether a collection of the given size will be converted in parallel.
+	 * 
+	 * @param size
+	 * @return
+	 */
+	public boolean isParallel(int size) {
+		return threshold > 0 && parallelism > 1 && size >= threshold;
+	}
+
+	/**
+	 * Converts all elements of the given {@link Collection} using the given {@link Converter}. The result contains the
+	 * converted elements in the iteration order of the source.
+	 * 
+	 * @param source must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public <S, T> List<T> convert(Collection<? extends S> source, final Converter<S, T> converter) {
+
+		Assert.notNull(source, "Source must not be null!");
+		Assert.notNull(converter, "Converter must not be null!");
+
+		if (!isParallel(source.size())) {
+
+			List<T> result = new ArrayList<T>(source.size());
+
+			for (S element : source) {
+				result.add(converter.convert(element));
+			}
+
+			return result;
+		}
+
+		final Object[] input = source.toArray();
+		final Object[] output = new Object[input.length];
+
+		final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		final LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+		int chunks = Math.min(parallelism, input.length);
+		int chunkSize = (input.length + chunks - 1) / chunks;
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(chunks);
+
+		for (int start = 0; start < input.length; start += chunkSize) {
+
+			final int from = start;
+			final int to = Math.min(start + chunkSize, input.length);
+
+			tasks.add(new Callable<Object>() {
+
+				@Override
+				public Object call() {
+
+					RequestContextHolder.setRequestAttributes(attributes);
+					LocaleContextHolder.setLocaleContext(localeContext);
+
+					try {
+						for (int i = from; i < to; i++) {
+							output[i] = converter.convert((S) input[i]);
+						}
+					} finally {
+						RequestContextHolder.resetRequestAttributes();
+						LocaleContextHolder.resetLocaleContext();
+					}
+
+					return null;
+				}
+			});
+		}
+
+		try {
+			for (Future<Object> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while assembling resources!", e);
+		} catch (ExecutionException e) {
+
+			Throwable cause = e.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw new IllegalStateException("Could not assemble resources!", cause);
+		}
+
+		return new ArrayList<T>((List<T>) Arrays.asList(output));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
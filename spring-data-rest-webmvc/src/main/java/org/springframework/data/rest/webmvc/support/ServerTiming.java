@@ -0,0 +1,147 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Locale;
+
+/**
+ * Collects the time spent in the individual phases of processing a sampled request to be reported in a
+ * {@value #HEADER} response header. The instance for the current request is bound to the current thread by
+ * {@link org.springframework.data.rest.webmvc.RepositoryRestHandlerMapping} and released by
+ * {@link ServerTimingHandlerInterceptor}. Components record phases only if {@link #current()} returns an instance, so
+ * that requests not sampled only pay for the thread-local lookup.
+ * <p/>
+ * Phases can be recorded multiple times per request (e.g. assembling the resources of a collection), in which case
+ * the durations are summed up.
+ * 
+ * @author agent
+ */
+public class ServerTiming {
+
+	public static final String HEADER = "Server-Timing";
+
+	/**
+	 * The phases of processing a request.
+	 * 
+	 * @author agent
+	 */
+	public static enum Phase {
+
+		ROUTING("routing"), ARGUMENTS("args"), REPOSITORY("repository"), ASSEMBLY("assembly"), PROCESSORS("processors"), SERIALIZATION(
+				"serialization");
+
+		private final String metricName;
+
+		private Phase(String metricName) {
+			this.metricName = metricName;
+		}
+	}
+
+	private static final Phase[] PHASES = Phase.values();
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<ServerTiming>();
+
+	private final long[] durations = new long[PHASES.length];
+	private final boolean[] recorded = new boolean[PHASES.length];
+	private final boolean[] reported = new boolean[PHASES.length];
+
+	/**
+	 * Binds a new {@link ServerTiming} to the current thread.
+	 * 
+	 * @return the {@link ServerTiming} bound.
+	 */
+	public static ServerTiming start() {
+
+		ServerTiming timing = new ServerTiming();
+		CURRENT.set(timing);
+
+		return timing;
+	}
+
+	/**
+	 * Returns the {@link ServerTiming} bound to the current thread.
+	 * 
+	 * @return the current {@link ServerTiming} or {@literal null} if the current request is not sampled.
+	 */
+	public static ServerTiming current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Removes the {@link ServerTiming} bound to the current thread.
+	 */
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Records the time passed since the given start for the given {@link Phase}.
+	 * 
+	 * @param phase must not be {@literal null}.
+	 * @param startNanos the start as obtained from {@link System#nanoTime()}.
+	 */
+	public void record(Phase phase, long startNanos) {
+
+		int index = phase.ordinal();
+
+		durations[index] += System.nanoTime() - startNanos;
+		recorded[index] = true;
+	}
+
+	/**
+	 * Returns whether phases were recorded that have not been reported via {@link #report()} yet.
+	 * 
+	 * @return
+	 */
+	public boolean hasUnreportedPhases() {
+
+		for (int i = 0; i < PHASES.length; i++) {
+			if (recorded[i] && !reported[i]) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the {@value #HEADER} header value for all phases recorded but not reported yet, e.g.
+	 * {@code routing;dur=0.052, repository;dur=1.327}, and marks them as reported. Durations are given in milliseconds.
+	 * 
+	 * @return
+	 */
+	public String report() {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (Phase phase : PHASES) {
+
+			int index = phase.ordinal();
+
+			if (!recorded[index] || reported[index]) {
+				continue;
+			}
+
+			if (builder.length() > 0) {
+				builder.append(", ");
+			}
+
+			builder.append(String.format(Locale.US, "%s;dur=%.3f", phase.metricName, durations[index] / 1000000.0));
+			reported[index] = true;
+		}
+
+		return builder.toString();
+	}
+}
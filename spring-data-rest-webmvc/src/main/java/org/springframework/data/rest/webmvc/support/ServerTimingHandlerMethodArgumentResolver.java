@@ -0,0 +1,78 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
+import org.springframework.util.Assert;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * {@link HandlerMethodArgumentResolver} to record the time spent resolving arguments by the given delegate as
+ * {@link Phase#ARGUMENTS} of the current {@link ServerTiming}.
+ * 
+ * @author agent
+ */
+public class ServerTimingHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
+
+	private final HandlerMethodArgumentResolver delegate;
+
+	/**
+	 * Creates a new {@link ServerTimingHandlerMethodArgumentResolver} for the given delegate.
+	 * 
+	 * @param delegate must not be {@literal null}.
+	 */
+	public ServerTimingHandlerMethodArgumentResolver(HandlerMethodArgumentResolver delegate) {
+
+		Assert.notNull(delegate, "Delegate HandlerMethodArgumentResolver must not be null!");
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#supportsParameter(org.springframework.core.MethodParameter)
+	 */
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return delegate.supportsParameter(parameter);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest, org.springframework.web.bind.support.WebDataBinderFactory)
+	 */
+	@Override
+	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+
+		ServerTiming timing = ServerTiming.current();
+
+		if (timing == null) {
+			return delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return delegate.resolveArgument(parameter, mavContainer, webRequest, binderFactory);
+		} finally {
+			timing.record(Phase.ARGUMENTS, start);
+		}
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * {@link MappingJackson2HttpMessageConverter} to record the time spent serializing the response body as
+ * {@link Phase#SERIALIZATION} of the current {@link ServerTiming}. As headers cannot be added once the body is
+ * written, the body of sampled requests is serialized into a buffer first, so that the serialization time can be
+ * reported in a {@value ServerTiming#HEADER} header. Requests not sampled are written directly.
+ * 
+ * @author agent
+ */
+public class ServerTimingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.MappingJackson2HttpMessageConverter#writeInternal(java.lang.Object, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, final HttpOutputMessage outputMessage) throws IOException,
+			HttpMessageNotWritableException {
+
+		ServerTiming timing = ServerTiming.current();
+
+		if (timing == null) {
+			super.writeInternal(object, outputMessage);
+			return;
+		}
+
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		long start = System.nanoTime();
+
+		super.writeInternal(object, new HttpOutputMessage() {
+
+			@Override
+			public HttpHeaders getHeaders() {
+				return outputMessage.getHeaders();
+			}
+
+			@Override
+			public OutputStream getBody() {
+				return buffer;
+			}
+		});
+
+		timing.record(Phase.SERIALIZATION, start);
+		outputMessage.getHeaders().add(ServerTiming.HEADER, timing.report());
+
+		buffer.writeTo(outputMessage.getBody());
+	}
+}
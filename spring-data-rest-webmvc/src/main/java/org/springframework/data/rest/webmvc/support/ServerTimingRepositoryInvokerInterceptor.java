@@ -0,0 +1,61 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import org.springframework.core.Ordered;
+import org.springframework.data.rest.core.invoke.RepositoryInvocation;
+import org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor;
+import org.springframework.data.rest.webmvc.support.ServerTiming.Phase;
+
+/**
+ * {@link RepositoryInvokerInterceptor} to record the time spent in repository invocations as
+ * {@link Phase#REPOSITORY} of the current {@link ServerTiming}.
+ * 
+ * @author agent
+ */
+public class ServerTimingRepositoryInvokerInterceptor implements RepositoryInvokerInterceptor, Ordered {
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.Ordered#getOrder()
+	 */
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.invoke.RepositoryInvokerInterceptor#invoke(org.springframework.data.rest.core.invoke.RepositoryInvocation)
+	 */
+	@Override
+	public Object invoke(RepositoryInvocation invocation) {
+
+		ServerTiming timing = ServerTiming.current();
+
+		if (timing == null) {
+			return invocation.proceed();
+		}
+
+		long start = System.nanoTime();
+
+		try {
+			return invocation.proceed();
+		} finally {
+			timing.record(Phase.REPOSITORY, start);
+		}
+	}
+}
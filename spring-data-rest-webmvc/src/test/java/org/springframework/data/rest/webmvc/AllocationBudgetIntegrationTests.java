@@ -0,0 +1,129 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests making sure the number of bytes allocated to serve a request does not exceed a per-endpoint budget.
+ * The budgets leave headroom of about 50% over what's currently allocated, as the numbers measured also depend on the
+ * tests that ran in the same JVM before. If a test fails after a change, the change introduced significant allocations
+ * on the request path.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = { JpaRepositoryConfig.class, RepositoryRestMvcConfiguration.class })
+@Transactional
+public class AllocationBudgetIntegrationTests {
+
+	private static final int KB = 1024;
+
+	@Autowired WebApplicationContext context;
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+
+	AllocationMeter meter;
+	Person person;
+
+	@Before
+	public void setUp() {
+
+		assumeTrue(AllocationMeter.isSupported());
+
+		loader.populateRepositories();
+
+		meter = new AllocationMeter(MockMvcBuilders.webAppContextSetup(context).build());
+		person = people.findFirstPersonByFirstName("John");
+	}
+
+	@Test
+	public void rootResource() throws Exception {
+		assertWithinBudget(get("/"), 200, 135 * KB);
+	}
+
+	@Test
+	public void collectionResource() throws Exception {
+		assertWithinBudget(get("/people"), 200, 600 * KB);
+	}
+
+	@Test
+	public void itemResource() throws Exception {
+		assertWithinBudget(get("/people/{id}", person.getId()), 200, 330 * KB);
+	}
+
+	@Test
+	public void searchResource() throws Exception {
+		assertWithinBudget(get("/people/search/firstname").param("firstName", "John"), 200, 420 * KB);
+	}
+
+	@Test
+	public void propertyReferenceResource() throws Exception {
+		assertWithinBudget(get("/people/{id}/father", person.getId()), 200, 350 * KB);
+	}
+
+	@Test
+	public void createItem() throws Exception {
+
+		RequestBuilder request = post("/people").contentType(MediaType.APPLICATION_JSON).content(
+				"{ \"firstName\" : \"Dave\", \"lastName\" : \"Matthews\" }".getBytes("UTF-8"));
+
+		assertWithinBudget(request, 201, 320 * KB);
+	}
+
+	@Test
+	public void updateItem() throws Exception {
+
+		RequestBuilder request = put("/people/{id}", person.getId()).contentType(MediaType.APPLICATION_JSON).content(
+				"{ \"firstName\" : \"John\", \"lastName\" : \"Doe\" }".getBytes("UTF-8"));
+
+		assertWithinBudget(request, 204, 290 * KB);
+	}
+
+	@Test
+	public void unmappedPath() throws Exception {
+		assertWithinBudget(get("/unknown"), 404, 100 * KB);
+	}
+
+	private void assertWithinBudget(RequestBuilder request, int expectedStatus, long budget) throws Exception {
+
+		long allocated = meter.measure(request, expectedStatus);
+		assertThat(String.format("Allocated %s bytes per request, budget is %s!", allocated, budget), allocated,
+				is(lessThanOrEqualTo(budget)));
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.util.Assert;
+
+/**
+ * Measures the number of bytes allocated on the current thread while processing a request through {@link MockMvc}.
+ * Requires a JVM exposing per-thread allocation counters through {@link com.sun.management.ThreadMXBean}.
+ * 
+ * @author agent
+ */
+public class AllocationMeter {
+
+	private static final int WARMUP_REQUESTS = 200;
+	private static final int ROUNDS = 5;
+	private static final int REQUESTS_PER_ROUND = 20;
+
+	private final MockMvc mvc;
+	private final com.sun.management.ThreadMXBean threads;
+
+	/**
+	 * Creates a new {@link AllocationMeter} for the given {@link MockMvc}.
+	 * 
+	 * @param mvc must not be {@literal null}.
+	 */
+	public AllocationMeter(MockMvc mvc) {
+
+		Assert.notNull(mvc, "MockMvc must not be null!");
+
+		this.mvc = mvc;
+		this.threads = isSupported() ? (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean() : null;
+	}
+
+	/**
+	 * Returns whether the current JVM supports measuring per-thread allocations.
+	 * 
+	 * @return
+	 */
+	public static boolean isSupported() {
+
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		try {
+			return bean instanceof com.sun.management.ThreadMXBean
+					&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+					&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled();
+		} catch (NoClassDefFoundError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the number of bytes allocated per request for the given {@link RequestBuilder}. Issues a number of warm-up
+	 * requests first to let caches fill and the JIT settle, then returns the lowest average of a couple of measured
+	 * rounds to filter out noise. Asserts the requests to result in the given status code.
+	 * 
+	 * @param request must not be {@literal null}.
+	 * @param expectedStatus the HTTP status code the request has to result in.
+	 * @return
+	 * @throws Exception
+	 */
+	public long measure(RequestBuilder request, int expectedStatus) throws Exception {
+
+		Assert.notNull(request, "RequestBuilder must not be null!");
+		Assert.state(threads != null, "Measuring allocations is not supported on this JVM!");
+
+		assertThat(mvc.perform(request).andReturn().getResponse().getStatus(), is(expectedStatus));
+
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			mvc.perform(request);
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long overhead = getOverhead(threadId);
+		long lowest = Long.MAX_VALUE;
+
+		for (int round = 0; round < ROUNDS; round++) {
+
+			long before = threads.getThreadAllocatedBytes(threadId);
+
+			for (int i = 0; i < REQUESTS_PER_ROUND; i++) {
+				mvc.perform(request);
+			}
+
+			long allocated = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+			lowest = Math.min(lowest, allocated / REQUESTS_PER_ROUND);
+		}
+
+		return lowest;
+	}
+
+	/**
+	 * Returns the number of bytes allocated by reading the allocation counter itself.
+	 * 
+	 * @param threadId
+	 * @return
+	 */
+	private long getOverhead(long threadId) {
+
+		long first = threads.getThreadAllocatedBytes(threadId);
+		long second = threads.getThreadAllocatedBytes(threadId);
+
+		return second - first;
+	}
+}
@@ -15,11 +15,12 @@
  */
 package org.springframework.data.rest.webmvc;
 
-import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -30,11 +31,19 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.rest.core.Path;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
 
 /**
  * Unit tests for {@link RepositoryRestHandlerMapping}.
@@ -100,4 +109,57 @@ public class RepositoryRestHandlerMappingUnitTests {
 		assertThat(method, is(notNullValue()));
 		assertThat(method.getMethod(), is(listEntitiesMethod));
 	}
+
+	@Test
+	public void doesNotApplyJpaInterceptorToRootRequest() {
+
+		JpaHelper jpaHelper = mock(JpaHelper.class);
+		handlerMapping.setJpaHelper(jpaHelper);
+
+		HandlerExecutionChain chain = handlerMapping.getHandlerExecutionChain(new Object(), new MockHttpServletRequest(
+				"GET", "/"));
+
+		assertThat(chain.getInterceptors(), is(nullValue()));
+		verifyZeroInteractions(jpaHelper);
+	}
+
+	@Test
+	public void doesNotApplyJpaInterceptorToRequestForRepositoryNotBackedByJpa() {
+
+		JpaHelper jpaHelper = mock(JpaHelper.class);
+		handlerMapping.setJpaHelper(jpaHelper);
+		exportResource("products", Object.class);
+
+		HandlerExecutionChain chain = handlerMapping.getHandlerExecutionChain(new Object(), new MockHttpServletRequest(
+				"GET", "/products/1"));
+
+		assertThat(chain.getInterceptors(), is(nullValue()));
+		verify(jpaHelper).getInterceptorFor(Object.class);
+	}
+
+	@Test
+	public void appliesJpaInterceptorOnceToRequestForRepositoryBackedByJpa() {
+
+		HandlerInterceptor interceptor = new WebRequestHandlerInterceptorAdapter(new OpenEntityManagerInViewInterceptor());
+
+		JpaHelper jpaHelper = mock(JpaHelper.class);
+		when(jpaHelper.getInterceptorFor(Person.class)).thenReturn(interceptor);
+		handlerMapping.setJpaHelper(jpaHelper);
+		exportResource("people", Person.class);
+
+		HandlerExecutionChain chain = handlerMapping.getHandlerExecutionChain(new Object(), new MockHttpServletRequest(
+				"GET", "/people/1"));
+
+		assertThat(chain.getInterceptors(), is(arrayContaining(interceptor)));
+	}
+
+	private void exportResource(String path, Class<?> domainType) {
+
+		ResourceMetadata metadata = mock(ResourceMetadata.class);
+		when(metadata.isExported()).thenReturn(true);
+		when(metadata.getPath()).thenReturn(new Path(path));
+		doReturn(domainType).when(metadata).getDomainType();
+
+		when(mappings.iterator()).thenReturn(Collections.singletonList(metadata).iterator());
+	}
 }
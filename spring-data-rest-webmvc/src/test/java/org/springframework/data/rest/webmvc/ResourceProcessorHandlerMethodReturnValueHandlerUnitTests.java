@@ -23,13 +23,16 @@ import static org.springframework.data.rest.webmvc.HttpEntityMatcher.*;
 import static org.springframework.util.ReflectionUtils.*;
 
 import java.lang.reflect.Method;
+import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.hamcrest.Matcher;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,6 +40,10 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.core.MethodParameter;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
+import org.springframework.data.rest.webmvc.support.ResourceAssemblyExecutor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
@@ -45,8 +52,11 @@ import org.springframework.hateoas.mvc.HeaderLinksResponseEntity;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.util.ReflectionUtils.MethodCallback;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
@@ -97,7 +107,14 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests {
 
 	@Before
 	public void setUp() {
+
 		resourceProcessors = new ArrayList<ResourceProcessor<?>>();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
 	}
 
 	@Test
@@ -205,7 +222,103 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests {
 				Mockito.any(ModelAndViewContainer.class), Mockito.any(NativeWebRequest.class));
 	}
 
+	@Test
+	public void handsValueToDelegateIfNoProcessorsRegistered() throws Exception {
+
+		MethodParameter parameter = METHOD_PARAMS.get("resources");
+
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				delegate, resourceProcessors);
+		handler.handleReturnValue(FOOS, parameter, null, null);
+
+		verify(delegate, times(1)).handleReturnValue(FOOS, parameter, null, null);
+	}
+
+	@Test
+	public void selectsProcessorsByContentTypeForSubsequentInvocations() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		MethodParameter parameter = METHOD_PARAMS.get("object");
+
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				delegate, resourceProcessors);
+		handler.handleReturnValue(FOO, parameter, null, null);
+		handler.handleReturnValue(LONG_10, parameter, null, null);
+		handler.handleReturnValue(FOO, parameter, null, null);
+
+		verify(delegate, times(2)).handleReturnValue(BAR, parameter, null, null);
+		verify(delegate, times(1)).handleReturnValue(LONG_20, parameter, null, null);
+	}
+
+	@Test
+	public void processesElementsInParallelIfAllProcessorsAreThreadSafe() throws Exception {
+
+		resourceProcessors.add(ThreadSafeStringResourceProcessor.INSTANCE);
+
+		MethodParameter parameter = METHOD_PARAMS.get("resources");
+		ResourceAssemblyExecutor executor = new ResourceAssemblyExecutor(2, 2);
+
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				delegate, resourceProcessors);
+		handler.setAssemblyExecutor(executor);
+
+		try {
+			handler.handleReturnValue(new Resources<Resource<String>>(Arrays.asList(FOO, FOO, FOO)), parameter, null, null);
+		} finally {
+			executor.destroy();
+		}
+
+		verify(delegate, times(1)).handleReturnValue(new Resources<Resource<String>>(Arrays.asList(BAR, BAR, BAR)),
+				parameter, null, null);
+	}
+
+	@Test
+	public void addsBaseLinkAndRelativizesLinksIfConfigured() throws Exception {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration();
+		config.setBaseUri(URI.create("http://localhost:8080/api"));
+		config.setRelativeLinks(true);
+
+		MethodParameter parameter = METHOD_PARAMS.get("resources");
+
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				delegate, resourceProcessors);
+		handler.setLinkTemplates(new LinkTemplates(mock(ResourceMappings.class), config));
+		handler.handleReturnValue(pagedFoos(), parameter, null, null);
+
+		Resources<Resource<String>> expected = new Resources<Resource<String>>(Collections.singletonList(FOO), new Link(
+				"/api/objects?page=1", Link.REL_NEXT), new Link("http://localhost:8081/api/objects", "other"), new Link(
+				"http://localhost:8080", LinkTemplates.BASE_REL));
+
+		verify(delegate, times(1)).handleReturnValue(expected, parameter, null, null);
+	}
+
+	@Test
+	public void leavesLinksUntouchedIfRelativeLinksAreNotConfigured() throws Exception {
+
+		RepositoryRestConfiguration config = new RepositoryRestConfiguration();
+		config.setBaseUri(URI.create("http://localhost:8080/api"));
+
+		MethodParameter parameter = METHOD_PARAMS.get("resources");
+
+		ResourceProcessorHandlerMethodReturnValueHandler handler = new ResourceProcessorHandlerMethodReturnValueHandler(
+				delegate, resourceProcessors);
+		handler.setLinkTemplates(new LinkTemplates(mock(ResourceMappings.class), config));
+		handler.handleReturnValue(pagedFoos(), parameter, null, null);
+
+		verify(delegate, times(1)).handleReturnValue(pagedFoos(), parameter, null, null);
+	}
+
 	// Helpers ---------------------------------------------------------//
+	private static Resources<Resource<String>> pagedFoos() {
+		return new Resources<Resource<String>>(Collections.singletonList(FOO), new Link(
+				"http://localhost:8080/api/objects?page=1", Link.REL_NEXT), new Link("http://localhost:8081/api/objects",
+				"other"));
+	}
+
+
 	private void invokeReturnValueHandler(String method, final Matcher<?> matcher, Object returnValue) throws Exception {
 		final MethodParameter methodParam = METHOD_PARAMS.get(method);
 
@@ -238,6 +351,16 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTests {
 		}
 	}
 
+	@ThreadSafeResourceProcessor
+	enum ThreadSafeStringResourceProcessor implements ResourceProcessor<Resource<String>> {
+		INSTANCE;
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+			return BAR;
+		}
+	}
+
 	enum LongResourceProcessor implements ResourceProcessor<Resource<Long>> {
 		INSTANCE;
 
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.data.rest.webmvc.support.ServerTiming;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Integration tests for the {@literal Server-Timing} header reported if enabled in the
+ * {@link RepositoryRestConfiguration}.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@WebAppConfiguration
+@ContextConfiguration(classes = { JpaRepositoryConfig.class, ServerTimingIntegrationTests.Config.class })
+@Transactional
+public class ServerTimingIntegrationTests {
+
+	@Configuration
+	static class Config extends RepositoryRestMvcConfiguration {
+
+		@Override
+		protected void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+			config.setServerTimingSampleRate(1);
+		}
+	}
+
+	@Autowired WebApplicationContext context;
+	@Autowired TestDataPopulator loader;
+
+	MockMvc mvc;
+
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		mvc = MockMvcBuilders.webAppContextSetup(context).build();
+	}
+
+	@Test
+	public void reportsProcessingPhasesInServerTimingHeader() throws Exception {
+
+		List<Object> headers = mvc.perform(get("/people")).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse().getHeaderValues(ServerTiming.HEADER);
+
+		assertThat(headers, hasSize(2));
+		assertThat(headers.get(0).toString(), allOf(containsString("routing;dur="), containsString("args;dur="),
+				containsString("repository;dur="), containsString("assembly;dur=")));
+		assertThat(headers.get(1).toString(), startsWith("serialization;dur="));
+	}
+
+	@Test
+	public void releasesTimingAfterRequest() throws Exception {
+
+		mvc.perform(get("/people")).andExpect(status().isOk());
+		assertThat(ServerTiming.current(), is(nullValue()));
+	}
+}
@@ -15,13 +15,22 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEventBus;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.hateoas.core.DefaultRelProvider;
 
@@ -49,6 +58,14 @@ public class RepositoryRestMvConfigurationIntegrationTests {
 		context.getBean(PageableHandlerMethodArgumentResolver.class);
 	}
 
+	@Test
+	public void bridgesRepositoryEventsToApplicationContextIfConfiguredInSubclass() {
+
+		context.getBean(RepositoryEventBus.class).publishEvent(AfterSaveEvent.class, new Object());
+
+		assertThat(context.getBean(AfterSaveListener.class).events, hasSize(1));
+	}
+
 	@Configuration
 	static class ExtendingConfiguration extends RepositoryRestMvcConfiguration {
 
@@ -56,5 +73,33 @@ public class RepositoryRestMvConfigurationIntegrationTests {
 		public DefaultRelProvider relProvider() {
 			return new DefaultRelProvider();
 		}
+
+		@Bean
+		public AfterSaveListener afterSaveListener() {
+			return new AfterSaveListener();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration#configureRepositoryEventBus(org.springframework.data.rest.core.event.RepositoryEventBus)
+		 */
+		@Override
+		protected void configureRepositoryEventBus(RepositoryEventBus eventBus) {
+			eventBus.setBridgeToApplicationContext(true);
+		}
+	}
+
+	static class AfterSaveListener implements ApplicationListener<AfterSaveEvent> {
+
+		List<AfterSaveEvent> events = new ArrayList<AfterSaveEvent>();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void onApplicationEvent(AfterSaveEvent event) {
+			events.add(event);
+		}
 	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.data.rest.webmvc.jpa;
 
 import javax.persistence.Entity;
+import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 
 /**
@@ -24,5 +25,9 @@ import javax.persistence.Id;
 @Entity
 public class CreditCard {
 
-	@Id Long id;
+	@Id @GeneratedValue Long id;
+
+	public Long getId() {
+		return id;
+	}
 }
@@ -20,18 +20,29 @@ import static org.junit.Assert.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.event.BeforeDeleteEvent;
+import org.springframework.data.rest.core.event.RepositoryEventBus;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.AbstractWebIntegrationTests;
 import org.springframework.hateoas.Link;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.jayway.jsonpath.JsonPath;
+
 /**
  * Web integration tests specific to JPA.
  * 
@@ -43,6 +54,8 @@ public class JpaWebTests extends AbstractWebIntegrationTests {
 
 	@Autowired TestDataPopulator loader;
 	@Autowired ResourceMappings mappings;
+	@Autowired RepositoryEventBus eventBus;
+	@Autowired RepositoryRestConfiguration config;
 
 	/* 
 	 * (non-Javadoc)
@@ -106,4 +119,113 @@ public class JpaWebTests extends AbstractWebIntegrationTests {
 		Link creatorLink = assertHasContentLinkWithRel("creator", orders);
 		assertThat(request(creatorLink), is(notNullValue()));
 	}
+
+	@Test
+	public void appliesMergePatchToPropertiesContained() throws Exception {
+
+		Link peopleLink = discoverUnique("people");
+		Link personLink = assertHasContentLinkWithRel("self", request(peopleLink));
+
+		String lastName = JsonPath.read(request(personLink).getContentAsString(), "$.lastName");
+
+		mvc.perform(MockMvcRequestBuilders.request(HttpMethod.PATCH, personLink.getHref()). //
+				contentType(MediaType.valueOf("application/merge-patch+json")). //
+				content("{\"firstName\": \"Patched\"}")). //
+				andExpect(status().isNoContent());
+
+		String person = request(personLink).getContentAsString();
+		String firstName = JsonPath.read(person, "$.firstName");
+
+		assertThat(firstName, is("Patched"));
+		assertThat(JsonPath.read(person, "$.lastName"), is((Object) lastName));
+	}
+
+	@Test
+	public void replacesEntityOnPutIfConfigured() throws Exception {
+
+		Link peopleLink = discoverUnique("people");
+		Link personLink = assertHasContentLinkWithRel("self", request(peopleLink));
+
+		// Merges by default
+		mvc.perform(put(personLink.getHref()).contentType(MediaType.APPLICATION_JSON). //
+				content("{\"firstName\": \"Merged\"}")). //
+				andExpect(status().isNoContent());
+
+		assertThat(JsonPath.read(request(personLink).getContentAsString(), "$.lastName"), is(notNullValue()));
+
+		config.replaceOnUpdateFor(Person.class);
+
+		try {
+
+			mvc.perform(put(personLink.getHref()).contentType(MediaType.APPLICATION_JSON). //
+					content("{\"firstName\": \"Replaced\"}")). //
+					andExpect(status().isNoContent());
+
+			String person = request(personLink).getContentAsString();
+
+			assertThat(JsonPath.read(person, "$.firstName"), is((Object) "Replaced"));
+			assertThat(JsonPath.read(person, "$.lastName"), is(nullValue()));
+
+		} finally {
+			ReflectionTestUtils.setField(config, "replaceOnUpdateFor", new ArrayList<Class<?>>());
+		}
+	}
+
+	@Test
+	public void exposesVersionAsETag() throws Exception {
+
+		Link orderLink = assertHasContentLinkWithRel("self", request(discoverUnique("orders")));
+
+		mvc.perform(get(orderLink.getHref())). //
+				andExpect(status().isOk()). //
+				andExpect(header().string("ETag", "\"0\""));
+	}
+
+	@Test
+	public void rejectsDeleteWithStaleETag() throws Exception {
+
+		Link orderLink = assertHasContentLinkWithRel("self", request(discoverUnique("orders")));
+
+		mvc.perform(delete(orderLink.getHref()).header("If-Match", "\"42\"")). //
+				andExpect(status().isPreconditionFailed()). //
+				andExpect(header().string("ETag", "\"0\""));
+
+		mvc.perform(delete(orderLink.getHref()).header("If-Match", "W/\"0\"")). //
+				andExpect(status().isPreconditionFailed());
+
+		mvc.perform(delete(orderLink.getHref()).header("If-Match", "\"42\", \"0\"")). //
+				andExpect(status().isNoContent());
+	}
+
+	@Test
+	public void answersDeleteOfUnknownEntityWithNotFound() throws Exception {
+
+		Link ordersLink = discoverUnique("orders");
+
+		// No listeners, entity is deleted without being loaded
+		mvc.perform(delete(ordersLink.getHref() + "/4711")). //
+				andExpect(status().isNotFound());
+
+		eventBus.addListener(new ApplicationListener<BeforeDeleteEvent>() {
+
+			@Override
+			public void onApplicationEvent(BeforeDeleteEvent event) {}
+		});
+
+		// Entity is loaded to hand it to the listener
+		mvc.perform(delete(ordersLink.getHref() + "/4711")). //
+				andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void rejectsMergePatchThatIsNotAnObject() throws Exception {
+
+		Link peopleLink = discoverUnique("people");
+		Link personLink = assertHasContentLinkWithRel("self", request(peopleLink));
+
+		mvc.perform(MockMvcRequestBuilders.request(HttpMethod.PATCH, personLink.getHref()). //
+				contentType(MediaType.valueOf("application/merge-patch+json")). //
+				content("[]")). //
+				andExpect(status().isBadRequest());
+	}
 }
@@ -15,12 +15,17 @@
  */
 package org.springframework.data.rest.webmvc.jpa;
 
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 /**
  * @author Oliver Gierke
@@ -31,9 +36,17 @@ public class Order {
 
 	@Id @GeneratedValue private Long id;
 	@ManyToOne(fetch = FetchType.LAZY) private Person creator;
+	@ManyToOne(fetch = FetchType.LAZY) private CreditCard creditCard;
+	@ElementCollection private Set<String> tags = new HashSet<String>();
+	@Version private Long version;
 
 	public Order(Person creator) {
+		this(creator, null);
+	}
+
+	public Order(Person creator, CreditCard creditCard) {
 		this.creator = creator;
+		this.creditCard = creditCard;
 	}
 
 	protected Order() {
@@ -47,4 +60,12 @@ public class Order {
 	public Person getCreator() {
 		return creator;
 	}
+
+	public CreditCard getCreditCard() {
+		return creditCard;
+	}
+
+	public Set<String> getTags() {
+		return tags;
+	}
 }
@@ -7,13 +7,20 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.Collections;
 
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.jpa.CreditCard;
+import org.springframework.data.rest.webmvc.jpa.Order;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.data.rest.webmvc.jpa.PersonRepository;
 import org.springframework.hateoas.Link;
@@ -39,6 +46,9 @@ public class PersistentEntitySerializationTests {
 	@Autowired ObjectMapper mapper;
 	@Autowired Repositories repositories;
 	@Autowired PersonRepository people;
+	@Autowired RepositoryRestConfiguration config;
+	@Autowired EntityManagerFactory emf;
+	@PersistenceContext EntityManager em;
 
 	LinkDiscoverer linkDiscoverer;
 
@@ -57,6 +67,40 @@ public class PersistentEntitySerializationTests {
 		assertThat(p.getSiblings(), is(Collections.EMPTY_LIST));
 	}
 
+	@Test
+	public void skipsUnknownPropertiesAndLinks() throws IOException {
+
+		String json = "{\"firstName\": \"John\", \"unknown\": {\"lastName\": \"Nope\", \"values\": [1, {}]}, "
+				+ "\"links\": [{\"rel\": \"self\", \"href\": \"/people/1\"}], \"lastName\": \"Doe\"}";
+
+		Person p = mapper.readValue(json, Person.class);
+
+		assertThat(p.getFirstName(), is("John"));
+		assertThat(p.getLastName(), is("Doe"));
+	}
+
+	@Test
+	public void deserializesCollectionElements() throws IOException {
+
+		Person p = mapper.readValue("{\"siblings\": [{\"firstName\": \"Jane\"}, null]}", Person.class);
+
+		assertThat(p.getSiblings(), hasSize(2));
+		assertThat(p.getSiblings().get(0).getFirstName(), is("Jane"));
+	}
+
+	@Test
+	public void doesNotApplyPropertiesFollowingHrefToReferencedEntity() throws IOException {
+
+		Person person = people.save(new Person("John", "Doe"));
+		String json = "{\"creator\": {\"href\": \"http://localhost/people/" + person.getId()
+				+ "\", \"firstName\": \"Mallory\"}}";
+
+		Order order = mapper.readValue(json, Order.class);
+
+		assertThat(order.getCreator(), is(sameInstance(person)));
+		assertThat(person.getFirstName(), is("John"));
+	}
+
 	@Test
 	public void serializesPersonEntity() throws IOException, InterruptedException {
 
@@ -74,4 +118,77 @@ public class PersistentEntitySerializationTests {
 		Link siblingLink = linkDiscoverer.findLinkWithRel("siblings", s);
 		assertThat(siblingLink.getHref(), endsWith(new UriTemplate("/{id}/siblings").expand(person.getId()).toString()));
 	}
+
+	@Test
+	public void serializesEntityWithoutIdentifier() throws IOException {
+
+		String s = serialize(new Person("John", "Doe"));
+
+		assertThat(s, containsString("\"firstName\":\"John\""));
+		assertThat(linkDiscoverer.findLinkWithRel("father", s).getHref(), endsWith("/people/father"));
+	}
+
+	@Test
+	public void skipsAssociationsThatAreNotExported() throws IOException {
+
+		Order order = createOrderWithUninitializedCreditCard();
+		String s = serialize(order);
+
+		assertThat(s, not(containsString("creditCard")));
+		assertThat(linkDiscoverer.findLinkWithRel("creator", s), is(notNullValue()));
+		assertThat(emf.getPersistenceUnitUtil().isLoaded(order, "creditCard"), is(false));
+	}
+
+	@Test
+	public void rendersIdentifierOfNotExportedAssociationWithoutInitializingItIfConfigured() throws IOException {
+
+		Order order = createOrderWithUninitializedCreditCard();
+		config.setExposeNonExportedAssociationIds(true);
+
+		try {
+
+			String s = serialize(order);
+
+			assertThat(emf.getPersistenceUnitUtil().isLoaded(order, "creditCard"), is(false));
+			assertThat(s, containsString("\"creditCard\":" + order.getCreditCard().getId()));
+
+		} finally {
+			config.setExposeNonExportedAssociationIds(false);
+		}
+	}
+
+	@Test
+	public void rendersElementCollectionInline() throws IOException {
+
+		Order order = new Order(people.save(new Person("John", "Doe")));
+		order.getTags().add("express");
+		em.persist(order);
+		em.flush();
+		em.clear();
+
+		String s = serialize(em.find(Order.class, order.getId()));
+
+		assertThat(s, containsString("\"tags\":[\"express\"]"));
+	}
+
+	private Order createOrderWithUninitializedCreditCard() {
+
+		CreditCard creditCard = new CreditCard();
+		em.persist(creditCard);
+
+		Order order = new Order(people.save(new Person("John", "Doe")), creditCard);
+		em.persist(order);
+		em.flush();
+		em.clear();
+
+		return em.find(Order.class, order.getId());
+	}
+
+	private String serialize(Object entity) throws IOException {
+
+		StringWriter writer = new StringWriter();
+		mapper.writeValue(writer, PersistentEntityResource.wrap(repositories.getPersistentEntity(entity.getClass()), entity));
+
+		return writer.toString();
+	}
 }
@@ -15,6 +15,8 @@ import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.data.rest.webmvc.support.JpaHelper;
+import org.springframework.data.rest.webmvc.support.LinkTemplates;
 import org.springframework.format.support.DefaultFormattingConversionService;
 
 import com.fasterxml.jackson.databind.Module;
@@ -69,9 +71,24 @@ public class RepositoryTestsConfig {
 		return new UriDomainClassConverter(repositories(), domainClassConverter());
 	}
 
+	@Bean
+	public ResourceMappings resourceMappings() {
+		return new ResourceMappings(config(), repositories());
+	}
+
+	@Bean
+	public LinkTemplates linkTemplates() {
+		return new LinkTemplates(resourceMappings(), config());
+	}
+
+	@Bean
+	public JpaHelper jpaHelper() {
+		return new JpaHelper();
+	}
+
 	@Bean
 	public Module persistentEntityModule() {
-		return new PersistentEntityJackson2Module(new ResourceMappings(config(), repositories()));
+		return new PersistentEntityJackson2Module(resourceMappings());
 	}
 
 	@Bean
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+/**
+ * Unit tests for {@link ETagResolver}.
+ * 
+ * @author agent
+ */
+public class ETagResolverUnitTests {
+
+	ETagResolver resolver = new ETagResolver();
+	PersistentEntity<?, ?> entity = new MongoMappingContext().getPersistentEntity(Sample.class);
+
+	@Test
+	public void derivesETagFromVersionProperty() {
+
+		Sample sample = new Sample();
+		assertThat(resolver.getETag(entity, sample), is(sameInstance(ETag.NO_ETAG)));
+
+		sample.version = 3L;
+		assertThat(resolver.getETag(entity, sample), is(ETag.from("3")));
+	}
+
+	@Test
+	public void verifiesMatchingVersion() {
+
+		Sample sample = new Sample();
+		sample.version = 3L;
+
+		resolver.verify("\"3\"", entity, sample);
+		resolver.verify("*", entity, sample);
+		resolver.verify(null, entity, null);
+	}
+
+	@Test
+	public void verifiesAnyOfListedETags() {
+
+		Sample sample = new Sample();
+		sample.version = 3L;
+
+		resolver.verify("\"1\", \"3\"", entity, sample);
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsStaleVersion() {
+
+		Sample sample = new Sample();
+		sample.version = 3L;
+
+		resolver.verify("\"1\", \"2\"", entity, sample);
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsWeakETag() {
+
+		Sample sample = new Sample();
+		sample.version = 3L;
+
+		resolver.verify("W/\"3\"", entity, sample);
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsWildcardForMissingTarget() {
+		resolver.verify("*", entity, null);
+	}
+
+	@Test
+	public void acceptsAnyETagForTargetWithoutVersionProperty() {
+
+		PersistentEntity<?, ?> unversioned = new MongoMappingContext().getPersistentEntity(Unversioned.class);
+
+		resolver.verify("\"3\"", unversioned, new Unversioned());
+	}
+
+	@Test(expected = ETagDoesntMatchException.class)
+	public void rejectsETagForMissingTargetWithoutVersionProperty() {
+
+		PersistentEntity<?, ?> unversioned = new MongoMappingContext().getPersistentEntity(Unversioned.class);
+
+		resolver.verify("\"3\"", unversioned, null);
+	}
+
+	static class Sample {
+
+		String id;
+		@Version Long version;
+	}
+
+	static class Unversioned {
+
+		String id;
+	}
+}
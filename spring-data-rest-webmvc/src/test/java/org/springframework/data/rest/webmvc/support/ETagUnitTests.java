@@ -0,0 +1,68 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Unit tests for {@link ETag}.
+ * 
+ * @author agent
+ */
+public class ETagUnitTests {
+
+	@Test
+	public void parsesQuotedAndWeakValues() {
+
+		assertThat(ETag.from("\"1\""), is(ETag.from("1")));
+		assertThat(ETag.from("W/\"1\"").isWeak(), is(true));
+		assertThat(ETag.from("W/\"1\""), is(not(ETag.from("1"))));
+		assertThat(ETag.from("*"), is(sameInstance(ETag.ANY)));
+		assertThat(ETag.from(""), is(sameInstance(ETag.NO_ETAG)));
+		assertThat(ETag.from((String) null), is(sameInstance(ETag.NO_ETAG)));
+	}
+
+	@Test
+	public void parsesListOfETags() {
+
+		assertThat(ETag.fromHeader("\"1\", W/\"2\",\"3,4\""),
+				contains(ETag.from("1"), ETag.from("W/\"2\""), ETag.from("\"3,4\"")));
+		assertThat(ETag.fromHeader("*"), contains(ETag.ANY));
+		assertThat(ETag.fromHeader(" , "), is(empty()));
+		assertThat(ETag.fromHeader(null), is(empty()));
+	}
+
+	@Test
+	public void usesStrongComparison() {
+
+		assertThat(ETag.from("1").matches(ETag.forVersion(1)), is(true));
+		assertThat(ETag.from("W/\"1\"").matches(ETag.forVersion(1)), is(false));
+		assertThat(ETag.from("2").matches(ETag.forVersion(1)), is(false));
+		assertThat(ETag.from("1").matches(ETag.NO_ETAG), is(false));
+	}
+
+	@Test
+	public void addsQuotedValueToHeaders() {
+
+		assertThat(ETag.from("1").addTo(new HttpHeaders()).getETag(), is("\"1\""));
+		assertThat(ETag.from("W/\"1\"").addTo(new HttpHeaders()).getETag(), is("W/\"1\""));
+		assertThat(ETag.NO_ETAG.addTo(new HttpHeaders()).getETag(), is(nullValue()));
+	}
+}
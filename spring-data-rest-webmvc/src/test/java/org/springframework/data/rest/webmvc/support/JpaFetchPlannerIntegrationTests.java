@@ -0,0 +1,106 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceContext;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.webmvc.json.RepositoryTestsConfig;
+import org.springframework.data.rest.webmvc.jpa.CreditCard;
+import org.springframework.data.rest.webmvc.jpa.Order;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link JpaFetchPlanner}.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = RepositoryTestsConfig.class)
+@Transactional
+public class JpaFetchPlannerIntegrationTests {
+
+	@Autowired Repositories repositories;
+	@Autowired ResourceMappings mappings;
+	@Autowired EntityManagerFactory emf;
+	@PersistenceContext EntityManager em;
+
+	JpaFetchPlanner planner;
+
+	@Before
+	public void setUp() {
+		planner = new JpaFetchPlanner(repositories, mappings, Arrays.asList(emf));
+	}
+
+	@Test
+	public void onlyPlansAttributesRenderedInline() {
+
+		assertThat(planner.getFetchPlan(Order.class), contains("tags"));
+		assertThat(planner.getFetchPlan(Person.class), is(empty()));
+		assertThat(planner.getFetchPlan(CreditCard.class), is(empty()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void loadsAttributesOfFetchPlanForAllEntities() {
+
+		Person person = new Person("Dave", "Matthews");
+		em.persist(person);
+
+		for (int i = 0; i < 3; i++) {
+			Order order = new Order(person);
+			order.getTags().add("tag" + i);
+			em.persist(order);
+		}
+
+		em.flush();
+		em.clear();
+
+		List<Order> orders = em.createQuery("select o from Order o where o.creator = :person")
+				.setParameter("person", person).getResultList();
+
+		assertThat(orders, hasSize(3));
+
+		for (Order order : orders) {
+			assertThat(emf.getPersistenceUnitUtil().isLoaded(order, "tags"), is(false));
+		}
+
+		planner.apply(Order.class, orders);
+
+		for (Order order : orders) {
+			assertThat(emf.getPersistenceUnitUtil().isLoaded(order, "tags"), is(true));
+			assertThat(order.getTags(), hasSize(1));
+		}
+
+		assertThat(emf.getPersistenceUnitUtil().isLoaded(orders.get(0), "creator"), is(false));
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.rest.webmvc.json.RepositoryTestsConfig;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Integration tests for {@link JpaHelper}.
+ * 
+ * @author agent
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration(classes = RepositoryTestsConfig.class)
+public class JpaHelperIntegrationTests {
+
+	@Autowired ApplicationContext context;
+	@Autowired EntityManagerFactory emf;
+
+	JpaHelper helper;
+	MockHttpServletRequest request;
+	MockHttpServletResponse response;
+
+	@Before
+	public void setUp() {
+
+		helper = new JpaHelper();
+		request = new MockHttpServletRequest();
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	public void onlyProvidesInterceptorForTypesManagedByJpa() {
+
+		helper.setBeanFactory(context);
+
+		assertThat(helper.getInterceptorFor(Person.class), is(notNullValue()));
+		assertThat(helper.getInterceptorFor(String.class), is(nullValue()));
+	}
+
+	@Test
+	public void keepsEntityManagerOpenUntilRequestCompletionByDefault() throws Exception {
+
+		helper.setBeanFactory(context);
+		HandlerInterceptor interceptor = helper.getInterceptorFor(Person.class);
+
+		interceptor.preHandle(request, response, null);
+		interceptor.postHandle(request, response, null, null);
+		assertThat(TransactionSynchronizationManager.hasResource(emf), is(true));
+
+		interceptor.afterCompletion(request, response, null, null);
+		assertThat(TransactionSynchronizationManager.hasResource(emf), is(false));
+	}
+
+	@Test
+	public void closesEntityManagerAfterHandlingIfConfigured() throws Exception {
+
+		helper.setCloseEntityManagerAfterSerialization(true);
+		helper.setBeanFactory(context);
+		HandlerInterceptor interceptor = helper.getInterceptorFor(Person.class);
+
+		interceptor.preHandle(request, response, null);
+		assertThat(TransactionSynchronizationManager.hasResource(emf), is(true));
+
+		interceptor.postHandle(request, response, null, null);
+		assertThat(TransactionSynchronizationManager.hasResource(emf), is(false));
+
+		interceptor.afterCompletion(request, response, null, null);
+	}
+
+	@Test
+	public void closesEntityManagerOnCompletionIfHandlerFailed() throws Exception {
+
+		helper.setCloseEntityManagerAfterSerialization(true);
+		helper.setBeanFactory(context);
+		HandlerInterceptor interceptor = helper.getInterceptorFor(Person.class);
+
+		interceptor.preHandle(request, response, null);
+		interceptor.afterCompletion(request, response, null, new IllegalStateException());
+
+		assertThat(TransactionSynchronizationManager.hasResource(emf), is(false));
+	}
+}
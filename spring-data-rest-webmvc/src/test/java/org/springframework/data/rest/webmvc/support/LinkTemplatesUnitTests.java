@@ -0,0 +1,130 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link LinkTemplates}.
+ * 
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LinkTemplatesUnitTests {
+
+	@Mock ResourceMappings mappings;
+	@Mock ResourceMetadata metadata;
+
+	RepositoryRestConfiguration config;
+	LinkTemplates templates;
+
+	@Before
+	public void setUp() {
+
+		when(mappings.getMappingFor(Object.class)).thenReturn(metadata);
+		when(metadata.getPath()).thenReturn(new Path("objects"));
+
+		config = new RepositoryRestConfiguration();
+		templates = new LinkTemplates(mappings, config);
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void usesConfiguredBaseUri() {
+
+		config.setBaseUri(URI.create("http://localhost:8080/api/"));
+
+		assertThat(templates.getCollectionHref(Object.class), is("http://localhost:8080/api/objects"));
+		assertThat(templates.getItemHref(Object.class, 4711L), is("http://localhost:8080/api/objects/4711"));
+	}
+
+	@Test
+	public void derivesBaseUriFromCurrentRequestOnlyOnce() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setServerPort(8080);
+		request.setContextPath("/context");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		assertThat(templates.getItemHref(Object.class, 1L), is("http://localhost:8080/context/objects/1"));
+
+		request.setContextPath("/other");
+		assertThat(templates.getItemHref(Object.class, 1L), is("http://localhost:8080/context/objects/1"));
+	}
+
+	@Test
+	public void prefersConfiguredBaseUriOverOneDerivedFromCurrentRequest() {
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		assertThat(templates.getItemHref(Object.class, 1L), is("http://localhost/objects/1"));
+
+		config.setBaseUri(URI.create("http://localhost:8080/api"));
+
+		assertThat(templates.getItemHref(Object.class, 1L), is("http://localhost:8080/api/objects/1"));
+		assertThat(new LinkTemplates(mappings, config).getItemHref(Object.class, 1L),
+				is("http://localhost:8080/api/objects/1"));
+	}
+
+	@Test
+	public void encodesIds() {
+
+		config.setBaseUri(URI.create("http://localhost"));
+
+		assertThat(templates.getItemHref(Object.class, "foo bar"), is("http://localhost/objects/foo%20bar"));
+	}
+
+	@Test
+	public void rendersRootRelativeHrefsAndBaseLinkIfConfigured() {
+
+		config.setBaseUri(URI.create("http://localhost:8080/api"));
+		config.setRelativeLinks(true);
+
+		assertThat(templates.getItemHref(Object.class, 1L), is("/api/objects/1"));
+		assertThat(templates.getBaseLink(), is(new Link("http://localhost:8080", LinkTemplates.BASE_REL)));
+	}
+
+	@Test
+	public void doesNotExposeBaseLinkForAbsoluteLinks() {
+
+		config.setBaseUri(URI.create("http://localhost:8080/api"));
+
+		assertThat(templates.getBaseLink(), is(nullValue()));
+	}
+}
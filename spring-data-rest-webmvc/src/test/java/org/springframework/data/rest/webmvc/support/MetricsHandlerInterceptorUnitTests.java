@@ -0,0 +1,75 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.data.rest.core.metrics.MetricsRegistry;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Unit tests for {@link MetricsHandlerInterceptor}.
+ * 
+ * @author agent
+ */
+public class MetricsHandlerInterceptorUnitTests {
+
+	MetricsRegistry registry = new MetricsRegistry();
+	MetricsHandlerInterceptor interceptor = new MetricsHandlerInterceptor(registry);
+
+	@After
+	public void tearDown() {
+		registry.destroy();
+	}
+
+	@Test
+	public void recordsOverloadedControllerMethodsSeparately() throws Exception {
+
+		Controller controller = new Controller();
+
+		handle(new HandlerMethod(controller, Controller.class.getMethod("follow", String.class)));
+		handle(new HandlerMethod(controller, Controller.class.getMethod("follow", String.class, String.class)));
+		handle(new HandlerMethod(controller, Controller.class.getMethod("follow", String.class, String.class)));
+
+		Map<String, Map<String, Object>> metrics = registry.getSnapshot().get(Controller.class.getName());
+
+		assertThat(metrics.get("follow(String)").get("count"), is((Object) 1L));
+		assertThat(metrics.get("follow(String,String)").get("count"), is((Object) 2L));
+	}
+
+	private void handle(HandlerMethod handler) {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		interceptor.preHandle(request, response, handler);
+		interceptor.afterCompletion(request, response, handler, null);
+	}
+
+	static class Controller {
+
+		public void follow(String property) {}
+
+		public void follow(String property, String propertyId) {}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2013 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link ResourceAssemblyExecutor}.
+ * 
+ * @author agent
+ */
+public class ResourceAssemblyExecutorUnitTests {
+
+	ResourceAssemblyExecutor executor;
+
+	@After
+	public void tearDown() {
+
+		executor.destroy();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void convertsOnCallingThreadBelowThreshold() {
+
+		executor = new ResourceAssemblyExecutor(4, 100);
+		final Thread caller = Thread.currentThread();
+
+		List<Boolean> result = executor.convert(numbers(99), new Converter<Integer, Boolean>() {
+
+			@Override
+			public Boolean convert(Integer source) {
+				return Thread.currentThread() == caller;
+			}
+		});
+
+		assertThat(result, hasSize(99));
+		assertThat(result, everyItem(is(true)));
+	}
+
+	@Test
+	public void convertsInParallelPreservingOrder() {
+
+		executor = new ResourceAssemblyExecutor(4, 100);
+		final Set<Thread> threads = Collections.synchronizedSet(new HashSet<Thread>());
+
+		List<String> result = executor.convert(numbers(1000), new Converter<Integer, String>() {
+
+			@Override
+			public String convert(Integer source) {
+				threads.add(Thread.currentThread());
+				return source.toString();
+			}
+		});
+
+		assertThat(result, hasSize(1000));
+
+		for (int i = 0; i < 1000; i++) {
+			assertThat(result.get(i), is(String.valueOf(i)));
+		}
+
+		assertThat(threads, not(hasItem(Thread.currentThread())));
+	}
+
+	@Test
+	public void exposesRequestAttributesToWorkerThreads() {
+
+		executor = new ResourceAssemblyExecutor(2, 1);
+
+		RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+		RequestContextHolder.setRequestAttributes(attributes);
+
+		List<RequestAttributes> result = executor.convert(numbers(2), new Converter<Integer, RequestAttributes>() {
+
+			@Override
+			public RequestAttributes convert(Integer source) {
+				return RequestContextHolder.getRequestAttributes();
+			}
+		});
+
+		assertThat(result, everyItem(is(attributes)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rethrowsExceptionsThrownByConverter() {
+
+		executor = new ResourceAssemblyExecutor(2, 1);
+
+		executor.convert(numbers(2), new Converter<Integer, Object>() {
+
+			@Override
+			public Object convert(Integer source) {
+				throw new IllegalArgumentException();
+			}
+		});
+	}
+
+	private static List<Integer> numbers(int count) {
+
+		List<Integer> numbers = new ArrayList<Integer>(count);
+
+		for (int i = 0; i < count; i++) {
+			numbers.add(i);
+		}
+
+		return numbers;
+	}
+}